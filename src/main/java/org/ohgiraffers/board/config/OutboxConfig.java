@@ -0,0 +1,62 @@
+package org.ohgiraffers.board.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ohgiraffers.board.outbox.*;
+import org.ohgiraffers.board.repository.PostOutboxRepository;
+import org.ohgiraffers.board.repository.PostOutboxSequenceRepository;
+import org.ohgiraffers.board.shard.ShardRouter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// 게시글 변경 이벤트(outbox) 설정 : board.outbox.sink 값에 따라 sink 구현체 선택
+// 기본값은 재시작해도 남는 file sink, memory sink는 재시작하면 이벤트가 사라지므로 명시적으로 설정한 경우(local 프로필)에만 사용
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "board.outbox.sink", havingValue = "memory")
+    public InMemoryPostChangeEventSink inMemoryPostChangeEventSink(OutboxProperties properties) {
+        return new InMemoryPostChangeEventSink(properties.getMemoryCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "board.outbox.sink", havingValue = "file", matchIfMissing = true)
+    public PostChangeEventSink filePostChangeEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return new FilePostChangeEventSink(Path.of(properties.getFilePath()), objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "board.outbox.sink", havingValue = "kafka")
+    public PostChangeEventSink kafkaPostChangeEventSink(OutboxProperties properties, ObjectMapper objectMapper,
+                                                        KafkaTemplate<String, String> kafkaTemplate) {
+        return new KafkaPostChangeEventSink(kafkaTemplate, objectMapper, properties.getKafkaTopic(),
+                Duration.ofMillis(properties.getKafkaSendTimeoutMs()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "board.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    public PostOutboxRelay postOutboxRelay(PostOutboxRepository postOutboxRepository,
+                                           PostOutboxSequenceRepository postOutboxSequenceRepository,
+                                           ObjectProvider<PostChangeEventSink> sinks, ShardRouter shardRouter,
+                                           OutboxProperties properties) {
+
+        // sink 값을 잘못 설정하면 이벤트가 쌓이기만 함 : 기동 시점에 실패
+        PostChangeEventSink sink = sinks.getIfAvailable();
+        if (sink == null) {
+            throw new IllegalStateException("board.outbox.sink 설정이 올바르지 않습니다 (현재 값 : " + properties.getSink()
+                    + "). file 또는 kafka를 설정하세요. (memory는 로컬 테스트용)");
+        }
+        return new PostOutboxRelay(postOutboxRepository, postOutboxSequenceRepository, sink, shardRouter,
+                properties.getBatchSize());
+    }
+}
@@ -0,0 +1,32 @@
+package org.ohgiraffers.board.config;
+
+import org.ohgiraffers.board.profiling.ProfilingProperties;
+import org.ohgiraffers.board.profiling.RequestProfilingFilter;
+import org.ohgiraffers.board.profiling.SqlLogger;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 요청 프로파일링(Server-Timing, slow request 로그) 및 비동기 SQL 로그 설정
+@Configuration
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class ProfilingConfig {
+
+    @Bean
+    public SqlLogger sqlLogger(ProfilingProperties properties) {
+        ProfilingProperties.SqlLog sqlLog = properties.getSqlLog();
+        return new SqlLogger(sqlLog.isEnabled(), sqlLog.getSampleRate(), sqlLog.getQueueCapacity());
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter(ProfilingProperties properties) {
+        FilterRegistrationBean<RequestProfilingFilter> registration =
+                new FilterRegistrationBean<>(new RequestProfilingFilter(properties.getSlowRequestThresholdMs()));
+        registration.addUrlPatterns("/api/*");
+        // 가장 바깥에서 요청 전체 시간을 측정
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
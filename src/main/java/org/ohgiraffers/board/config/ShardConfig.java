@@ -0,0 +1,100 @@
+package org.ohgiraffers.board.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.ohgiraffers.board.profiling.ProfilingDataSource;
+import org.ohgiraffers.board.profiling.RequestProfileTaskDecorator;
+import org.ohgiraffers.board.profiling.SqlLogger;
+import org.ohgiraffers.board.shard.ShardProperties;
+import org.ohgiraffers.board.shard.ShardRouter;
+import org.ohgiraffers.board.shard.ShardRoutingDataSource;
+import org.ohgiraffers.board.shard.ShardSchemaMigrator;
+import org.ohgiraffers.board.shard.SnowflakeIdGenerator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 게시글 샤딩 설정
+ * board.shard.datasources 에 나열한 DB들을 하나의 라우팅 DataSource로 묶어서 JPA에 제공
+ * 어느 샤드를 쓸지는 ShardRouter가 트랜잭션을 열기 전에 결정
+ * */
+@Configuration
+@EnableConfigurationProperties(ShardProperties.class)
+public class ShardConfig {
+
+    @Bean
+    public DataSource dataSource(ShardProperties properties, SqlLogger sqlLogger) {
+
+        List<ShardProperties.DataSource> shards = properties.getDatasources();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("board.shard.datasources 에 샤드를 1개 이상 설정하세요.");
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            // SQL 실행 시간/횟수/row 수를 요청 프로파일에 기록
+            DataSource dataSource = new ProfilingDataSource(createShardDataSource(shard, shards.get(shard)), sqlLogger);
+
+            // Hibernate ddl-auto는 기본 샤드에만 적용되므로 스키마는 샤드마다 직접 생성
+            // 이미 있는 테이블은 CREATE TABLE IF NOT EXISTS로 바뀌지 않으므로 추가된 컬럼/인덱스는 마이그레이션으로 반영
+            if (properties.isInitSchema()) {
+                DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("schema-shard.sql")), dataSource);
+                new ShardSchemaMigrator().migrate(dataSource);
+            }
+            targets.put(shard, dataSource);
+        }
+
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(targets.get(0));
+        return routingDataSource;
+    }
+
+    private DataSource createShardDataSource(int shard, ShardProperties.DataSource properties) {
+
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+        dataSource.setPoolName("shard-" + shard);
+        return dataSource;
+    }
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(ShardProperties properties) {
+        return new SnowflakeIdGenerator(properties.getWorkerId());
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardProperties properties, PlatformTransactionManager transactionManager) {
+
+        TransactionTemplate readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+
+        // 작업 스레드에서도 요청 프로파일이 이어지도록 TaskDecorator 적용
+        ThreadPoolTaskExecutor scatterExecutor = new ThreadPoolTaskExecutor();
+        scatterExecutor.setCorePoolSize(properties.getScatterThreads());
+        scatterExecutor.setMaxPoolSize(properties.getScatterThreads());
+        scatterExecutor.setThreadNamePrefix("shard-scatter-");
+        scatterExecutor.setDaemon(true);
+        scatterExecutor.setTaskDecorator(new RequestProfileTaskDecorator());
+        scatterExecutor.initialize();
+
+        return new ShardRouter(properties.getDatasources().size(),
+                new TransactionTemplate(transactionManager), readTransaction, scatterExecutor);
+    }
+}
@@ -0,0 +1,51 @@
+package org.ohgiraffers.board.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.ohgiraffers.board.domain.dto.ReadPostResponse;
+import org.ohgiraffers.board.support.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 게시글 단건 조회 요청 병합(single-flight) 설정 및 메트릭 등록
+@Configuration
+public class SingleFlightConfig {
+
+    // leader를 기다리는 최대 시간 : 넘으면 직접 조회
+    @Bean
+    public SingleFlight<Long, ReadPostResponse> postReadSingleFlight(
+            @Value("${board.single-flight.wait-timeout-ms:3000}") long waitTimeoutMs) {
+        return new SingleFlight<>("post.read", Duration.ofMillis(waitTimeoutMs));
+    }
+
+    /** /actuator/metrics 로 확인
+     * board.singleflight.executions : 실제로 DB 조회를 수행한 횟수 (timeouts 포함)
+     * board.singleflight.collapsed : 진행 중인 조회에 합류해서 DB 조회를 생략한 횟수
+     * board.singleflight.timeouts : 합류했지만 leader가 늦어서 직접 DB 조회를 수행한 횟수
+     * board.singleflight.waiting : 현재 leader를 기다리고 있는 요청 수
+     * */
+    @Bean
+    public MeterBinder postReadSingleFlightMetrics(SingleFlight<Long, ReadPostResponse> postReadSingleFlight) {
+        return registry -> {
+            FunctionCounter.builder("board.singleflight.executions", postReadSingleFlight, SingleFlight::getExecutions)
+                    .tag("name", postReadSingleFlight.getName())
+                    .register(registry);
+            FunctionCounter.builder("board.singleflight.collapsed", postReadSingleFlight, SingleFlight::getCollapsed)
+                    .tag("name", postReadSingleFlight.getName())
+                    .register(registry);
+            FunctionCounter.builder("board.singleflight.timeouts", postReadSingleFlight, SingleFlight::getTimeouts)
+                    .tag("name", postReadSingleFlight.getName())
+                    .register(registry);
+            Gauge.builder("board.singleflight.waiting", postReadSingleFlight, SingleFlight::getWaiting)
+                    .tag("name", postReadSingleFlight.getName())
+                    .register(registry);
+            Gauge.builder("board.singleflight.inflight", postReadSingleFlight, SingleFlight::getInFlight)
+                    .tag("name", postReadSingleFlight.getName())
+                    .register(registry);
+        };
+    }
+}
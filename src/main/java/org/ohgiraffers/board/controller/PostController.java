@@ -47,6 +47,19 @@ public class PostController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    // 변경 피드 : since 이후의 게시글 변경분만 조회 (폴링 대신 델타만 가져가기)
+    @GetMapping("/changes")
+    public ResponseEntity<ReadPostChangesResponse> postChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size) {
+
+        // 한 번에 가져갈 수 있는 변경분 수 제한
+        int limitedSize = Math.max(1, Math.min(size, 500));
+        ReadPostChangesResponse response = postService.readPostChanges(since, limitedSize);
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     // @PathVariable :
     @GetMapping("/{postId}")
     public ResponseEntity<ReadPostResponse> postRead(@PathVariable Long postId) {
@@ -72,6 +85,30 @@ public class PostController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    // 작성자별 목록 : 최신순 keyset 페이징 (이전 응답의 nextCursor를 cursor로 전달)
+    @GetMapping("/authors/{author}")
+    public ResponseEntity<ReadPostSliceResponse> postReadByAuthor(
+            @PathVariable String author,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        ReadPostSliceResponse response = postService.readPostsByAuthor(author, cursor, limitSliceSize(size));
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    // 태그별 목록 : 최신순 keyset 페이징 (이전 응답의 nextCursor를 cursor로 전달)
+    @GetMapping("/tags/{tag}")
+    public ResponseEntity<ReadPostSliceResponse> postReadByTag(
+            @PathVariable String tag,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        ReadPostSliceResponse response = postService.readPostsByTag(tag, cursor, limitSliceSize(size));
+
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @GetMapping
     public ResponseEntity<Page<ReadPostResponse>> postReadAll(
             @PageableDefault(size = 5, sort = "postId", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -80,4 +117,9 @@ public class PostController {
 
         return new ResponseEntity<>(responses, HttpStatus.OK);
     }
+
+    // 한 번에 조회할 수 있는 게시글 수 제한
+    private int limitSliceSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
 }
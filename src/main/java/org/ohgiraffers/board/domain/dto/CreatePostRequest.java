@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -11,4 +14,11 @@ public class CreatePostRequest {
 
     private String title;
     private String content;
+    private String author;
+    private List<String> tags = new ArrayList<>();
+
+    public CreatePostRequest(String title, String content) {
+        this.title = title;
+        this.content = content;
+    }
 }
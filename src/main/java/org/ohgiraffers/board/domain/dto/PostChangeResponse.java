@@ -0,0 +1,26 @@
+package org.ohgiraffers.board.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.ohgiraffers.board.domain.entity.PostChangeType;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostChangeResponse {
+
+    private Long changeId;
+    private Long postId;
+    private PostChangeType changeType;
+
+    // outbox에 저장된 JSON 스냅샷을 그대로 내려줌
+    @JsonRawValue
+    private String payload;
+
+    private LocalDateTime occurredAt;
+
+}
@@ -0,0 +1,19 @@
+package org.ohgiraffers.board.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReadPostChangesResponse {
+
+    private List<PostChangeResponse> changes;
+
+    // 다음 요청의 since 값으로 사용 (샤드별 feedSeq 커서)
+    private String nextSince;
+
+}
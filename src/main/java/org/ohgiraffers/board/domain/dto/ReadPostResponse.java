@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -12,5 +14,13 @@ public class ReadPostResponse {
     private Long postId;
     private String title;
     private String content;
+    private String author;
+    private List<String> tags = List.of();
+
+    public ReadPostResponse(Long postId, String title, String content) {
+        this.postId = postId;
+        this.title = title;
+        this.content = content;
+    }
 
 }
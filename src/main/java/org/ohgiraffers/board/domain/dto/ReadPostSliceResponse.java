@@ -0,0 +1,22 @@
+package org.ohgiraffers.board.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReadPostSliceResponse {
+
+    private List<ReadPostResponse> posts;
+
+    // 다음 요청의 cursor 값으로 사용, 마지막 페이지면 null
+    private Long nextCursor;
+
+    // 카운터 테이블에서 읽은 전체 게시글 수
+    private long totalCount;
+
+}
@@ -0,0 +1,29 @@
+package org.ohgiraffers.board.domain.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/** 애플리케이션에서 id를 직접 할당하는 엔티티의 공통 부모
+ * id가 null이 아니면 Spring Data는 기존 엔티티로 판단해 save 시 merge(SELECT 후 INSERT)를 수행함
+ * 저장/조회 여부를 직접 기록해서 신규 엔티티는 바로 persist(INSERT) 되도록 함
+ * */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<Long> {
+
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
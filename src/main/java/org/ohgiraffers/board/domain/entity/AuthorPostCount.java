@@ -0,0 +1,22 @@
+package org.ohgiraffers.board.domain.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+/** 작성자별 게시글 수 (비정규화 카운터)
+ * 목록 조회마다 count(*)를 하지 않도록 createPost/deletePost 트랜잭션에서 함께 증감
+ * 샤드마다 자기 샤드의 게시글 수만 가지므로 전체 수는 샤드별 값의 합
+ * */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthorPostCount {
+
+    @Id
+    private String author;
+
+    private long postCount;
+
+}
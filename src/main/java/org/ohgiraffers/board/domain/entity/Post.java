@@ -1,28 +1,58 @@
 package org.ohgiraffers.board.domain.entity;
 
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
+@Table(indexes = {
+        // 작성자별 최신순 keyset 조회 (author = ? and post_id < ? order by post_id desc)
+        @Index(name = "idx_post_author", columnList = "author, postId")
+})
 @Builder
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Post {
+public class Post extends AssignedIdEntity {
 
+    // SnowflakeIdGenerator로 발급한 전역 고유 id (시간 순서), 샤드 키로도 사용
     @Id
-    @GeneratedValue
     private Long postId;
 
     private String title;
     private String content;
 
+    private String author;
+
+    // 태그별 최신순 keyset 조회는 post_tag의 (tag, post_id) 인덱스 사용
+    // @BatchSize : 목록 조회 시 게시글마다 태그를 조회하지 않고 한 번에 IN 쿼리로 가져옴
+    @ElementCollection
+    @CollectionTable(name = "post_tag", joinColumns = @JoinColumn(name = "post_id"),
+            indexes = @Index(name = "idx_post_tag_tag", columnList = "tag, post_id"))
+    @Column(name = "tag")
+    @BatchSize(size = 100)
+    @Builder.Default
+    private Set<String> tags = new HashSet<>();
+
+    public Post(Long postId, String title, String content) {
+        this.postId = postId;
+        this.title = title;
+        this.content = content;
+        this.tags = new HashSet<>();
+    }
+
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
     }
 
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
 }
@@ -0,0 +1,8 @@
+package org.ohgiraffers.board.domain.entity;
+
+// 게시글 변경 이벤트 종류
+public enum PostChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,61 @@
+package org.ohgiraffers.board.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** Transactional Outbox
+ * 게시글 변경과 같은 트랜잭션 안에서 변경 이벤트를 함께 저장하는 테이블
+ * 게시글 변경이 커밋되면 이벤트도 반드시 남고, 롤백되면 이벤트도 남지 않음
+ * relay가 미발행 이벤트를 읽어서 외부(sink)로 발행한 뒤 published 처리하면서 feedSeq 부여
+ * 변경 피드는 발행된 이벤트만 feedSeq 순서로 제공 (outboxId는 커밋 전에 발급되므로 커서로 쓰면 늦게 커밋된 이벤트를 건너뜀)
+ * */
+@Entity
+@Table(name = "post_outbox", indexes = {
+        // relay의 미발행 이벤트 조회용 (published = false 범위를 outbox_id 순서로 스캔)
+        @Index(name = "idx_post_outbox_published", columnList = "published, outboxId"),
+        // 변경 피드 조회용 (feed_seq > since 범위 스캔)
+        @Index(name = "idx_post_outbox_feed_seq", columnList = "feedSeq")
+})
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostOutbox extends AssignedIdEntity {
+
+    // 이벤트 식별자 : 소비자가 중복 수신한 이벤트를 걸러낼 때 사용
+    // SnowflakeIdGenerator로 발급 : 인스턴스마다 시계가 달라 커밋/발행 순서와 어긋날 수 있으므로 피드 순서에는 사용하지 않음
+    @Id
+    private Long outboxId;
+
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    private PostChangeType changeType;
+
+    // 변경 시점의 게시글 스냅샷(JSON), 삭제 이벤트는 postId만 포함
+    @Lob
+    private String payload;
+
+    private LocalDateTime occurredAt;
+
+    private boolean published;
+
+    private LocalDateTime publishedAt;
+
+    // 변경 피드의 커서(since)로 사용되는 값 : 발행(커밋) 순서대로 증가, 미발행 이벤트는 null
+    private Long feedSeq;
+
+    public void markPublished(long feedSeq, LocalDateTime publishedAt) {
+        this.published = true;
+        this.publishedAt = publishedAt;
+        this.feedSeq = feedSeq;
+    }
+
+    @Override
+    public Long getId() {
+        return outboxId;
+    }
+
+}
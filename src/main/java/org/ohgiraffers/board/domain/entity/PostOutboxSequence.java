@@ -0,0 +1,28 @@
+package org.ohgiraffers.board.domain.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+/** 변경 피드 순번 (샤드마다 1행)
+ * relay가 이 행을 잠근(SELECT ... FOR UPDATE) 상태에서 발행한 이벤트에 feedSeq를 차례로 부여
+ * 잠금은 커밋까지 유지되므로 작은 feedSeq가 항상 먼저 커밋됨 : 피드 커서가 아직 커밋되지 않은 이벤트를 건너뛰지 않음
+ * */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostOutboxSequence {
+
+    public static final int FEED = 1;
+
+    @Id
+    private Integer sequenceId;
+
+    private long lastSeq;
+
+    public long next() {
+        return ++lastSeq;
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.ohgiraffers.board.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// 로컬 테스트용 sink : 이벤트를 한 줄에 하나씩 JSON(JSON Lines)으로 파일에 추가
+public class FilePostChangeEventSink implements PostChangeEventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FilePostChangeEventSink(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<PostChangeEvent> events) {
+
+        // 배치 전체를 한 번의 write로 기록
+        StringBuilder lines = new StringBuilder();
+        for (PostChangeEvent event : events) {
+            try {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("게시글 변경 이벤트를 직렬화할 수 없습니다.", e);
+            }
+        }
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(path, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.ohgiraffers.board.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 로컬 테스트용 sink : 발행된 이벤트를 메모리에 보관 (오래된 것부터 버림)
+@Slf4j
+public class InMemoryPostChangeEventSink implements PostChangeEventSink {
+
+    private final int capacity;
+    private final List<PostChangeEvent> events = new ArrayList<>();
+
+    public InMemoryPostChangeEventSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<PostChangeEvent> batch) {
+        events.addAll(batch);
+
+        int overflow = events.size() - capacity;
+        if (overflow > 0) {
+            events.subList(0, overflow).clear();
+        }
+
+        log.debug("게시글 변경 이벤트 {}건 발행", batch.size());
+    }
+
+    public synchronized List<PostChangeEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+}
@@ -0,0 +1,63 @@
+package org.ohgiraffers.board.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/** 메시지 브로커(Kafka) sink
+ * postId를 key로 사용해서 같은 게시글의 이벤트는 같은 파티션으로 가도록 함 (게시글 단위 순서 보장)
+ * 배치를 모두 전송한 뒤 한 번에 ack를 기다림
+ * relay 트랜잭션(outbox 행 잠금) 안에서 호출되므로 ack는 sendTimeout까지만 기다리고 실패로 처리
+ * */
+public class KafkaPostChangeEventSink implements PostChangeEventSink {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final Duration sendTimeout;
+
+    public KafkaPostChangeEventSink(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+                                    String topic, Duration sendTimeout) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public void publish(List<PostChangeEvent> events) {
+
+        CompletableFuture<?>[] sends = new CompletableFuture<?>[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            PostChangeEvent event = events.get(i);
+            sends[i] = kafkaTemplate.send(topic, String.valueOf(event.getPostId()), toJson(event));
+        }
+
+        // 하나라도 실패하거나 시간 안에 ack가 오지 않으면 예외가 전파되어 배치 전체가 롤백, 다음 주기에 재발행됨
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("게시글 변경 이벤트 전송이 " + sendTimeout.toMillis() + "ms 안에 완료되지 않았습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("게시글 변경 이벤트 전송에 실패했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 변경 이벤트 전송 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private String toJson(PostChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 변경 이벤트를 직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.ohgiraffers.board.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.yml 의 board.outbox.* 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.outbox")
+public class OutboxProperties {
+
+    // 사용할 sink : file(기본값), kafka, memory(로컬 테스트용)
+    private String sink = "file";
+
+    // relay가 한 번에 발행하는 이벤트 수
+    private int batchSize = 100;
+
+    // memory sink가 보관하는 최대 이벤트 수
+    private int memoryCapacity = 1000;
+
+    // file sink의 출력 파일
+    private String filePath = "build/outbox/post-changes.jsonl";
+
+    // kafka sink의 토픽
+    private String kafkaTopic = "board.post.changes";
+
+    // kafka sink가 배치 전송 ack를 기다리는 최대 시간
+    private long kafkaSendTimeoutMs = 10000;
+}
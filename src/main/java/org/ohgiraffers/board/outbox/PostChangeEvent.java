@@ -0,0 +1,32 @@
+package org.ohgiraffers.board.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.ohgiraffers.board.domain.entity.PostChangeType;
+import org.ohgiraffers.board.domain.entity.PostOutbox;
+
+import java.time.LocalDateTime;
+
+// sink로 발행되는 게시글 변경 이벤트
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostChangeEvent {
+
+    private Long outboxId;
+    private Long postId;
+    private PostChangeType changeType;
+    private String payload;
+    private LocalDateTime occurredAt;
+
+    public static PostChangeEvent from(PostOutbox outbox) {
+        return new PostChangeEvent(
+                outbox.getOutboxId(),
+                outbox.getPostId(),
+                outbox.getChangeType(),
+                outbox.getPayload(),
+                outbox.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package org.ohgiraffers.board.outbox;
+
+import java.util.List;
+
+/** 변경 이벤트를 외부로 내보내는 출구
+ * publish가 예외 없이 반환되면 해당 배치는 발행 완료로 처리됨
+ * 실패 시 예외를 던지면 relay가 다음 주기에 같은 배치를 다시 발행 (at-least-once)
+ * 따라서 소비자는 outboxId 기준으로 중복을 걸러내야 함
+ * */
+public interface PostChangeEventSink {
+
+    void publish(List<PostChangeEvent> events);
+}
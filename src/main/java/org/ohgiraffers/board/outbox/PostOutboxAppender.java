@@ -0,0 +1,58 @@
+package org.ohgiraffers.board.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.ohgiraffers.board.domain.dto.ReadPostResponse;
+import org.ohgiraffers.board.domain.entity.Post;
+import org.ohgiraffers.board.domain.entity.PostChangeType;
+import org.ohgiraffers.board.domain.entity.PostOutbox;
+import org.ohgiraffers.board.repository.PostOutboxRepository;
+import org.ohgiraffers.board.shard.SnowflakeIdGenerator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PostOutboxAppender {
+
+    private final PostOutboxRepository postOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+    // MANDATORY : 게시글 변경과 같은 트랜잭션 안에서만 호출 가능 (트랜잭션이 없으면 예외)
+    // 따라서 outbox는 게시글과 같은 샤드에 저장됨
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(PostChangeType changeType, Post post) {
+
+        // outboxId는 식별용, 피드 순서(feedSeq)는 발행 시점에 relay가 부여
+        PostOutbox outbox = PostOutbox.builder()
+                .outboxId(snowflakeIdGenerator.nextId())
+                .postId(post.getPostId())
+                .changeType(changeType)
+                .payload(toPayload(changeType, post))
+                .occurredAt(LocalDateTime.now())
+                .published(false)
+                .build();
+
+        postOutboxRepository.save(outbox);
+    }
+
+    private String toPayload(PostChangeType changeType, Post post) {
+
+        Object snapshot = changeType == PostChangeType.DELETED
+                ? Map.of("postId", post.getPostId())
+                : new ReadPostResponse(post.getPostId(), post.getTitle(), post.getContent(),
+                        post.getAuthor(), post.getTags().stream().sorted().toList());
+
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 변경 이벤트를 직렬화할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.ohgiraffers.board.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ohgiraffers.board.domain.entity.PostOutbox;
+import org.ohgiraffers.board.domain.entity.PostOutboxSequence;
+import org.ohgiraffers.board.repository.PostOutboxRepository;
+import org.ohgiraffers.board.repository.PostOutboxSequenceRepository;
+import org.ohgiraffers.board.shard.ShardRouter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** Outbox Relay
+ * 주기적으로 샤드마다 미발행 이벤트를 배치 단위로 읽어 sink로 발행한 뒤 published 처리
+ * 배치마다 별도의 트랜잭션 : sink 발행이 실패하면 해당 배치는 롤백되어 다음 주기에 재시도
+ * 발행한 이벤트에는 샤드의 순번 행을 잠근 채로 feedSeq를 부여 : 잠금이 커밋까지 유지되므로 feedSeq는 커밋 순서와 같음
+ * 여러 인스턴스에서 relay가 돌아도 같은 이벤트를 중복 발행하지 않음
+ *  - 순번 행 잠금으로 같은 샤드의 배치는 한 번에 하나씩 처리되고, 다음 relay는 잠금을 얻은 뒤 미발행 이벤트를 읽으므로 커밋된 published 상태를 보고 시작
+ *  - 미발행 이벤트는 잠그지 않고 읽음 : sink 발행 동안 outbox 범위(갭)를 잠그면 같은 샤드의 게시글 작성/수정/삭제가 outbox insert에서 대기함
+ * */
+@Slf4j
+@RequiredArgsConstructor
+public class PostOutboxRelay {
+
+    private final PostOutboxRepository postOutboxRepository;
+    private final PostOutboxSequenceRepository postOutboxSequenceRepository;
+    private final PostChangeEventSink sink;
+    private final ShardRouter shardRouter;
+    private final int batchSize;
+
+    @Scheduled(fixedDelayString = "${board.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            try {
+                // 밀린 이벤트가 있으면 배치가 다 찰 때까지 연속으로 발행
+                int relayed;
+                do {
+                    relayed = relayBatch(shard);
+                } while (relayed == batchSize);
+            } catch (RuntimeException e) {
+                log.warn("샤드 {}의 게시글 변경 이벤트 발행 실패, 다음 주기에 재시도합니다.", shard, e);
+            }
+        }
+    }
+
+    public int relayBatch(int shard) {
+        return shardRouter.writeOnShard(shard, () -> {
+
+            // 같은 샤드를 처리하는 다른 relay는 이 트랜잭션이 커밋될 때까지 대기
+            PostOutboxSequence feedSequence = postOutboxSequenceRepository
+                    .findWithLockBySequenceId(PostOutboxSequence.FEED)
+                    .orElseThrow(() -> new IllegalStateException("샤드 " + shard + "에 변경 피드 순번 행이 없습니다."));
+
+            List<PostOutbox> pending = postOutboxRepository
+                    .findByPublishedFalseOrderByOutboxIdAsc(PageRequest.of(0, batchSize));
+
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            sink.publish(pending.stream().map(PostChangeEvent::from).toList());
+
+            // Dirty Checking 으로 커밋 시 published 반영
+            LocalDateTime now = LocalDateTime.now();
+            pending.forEach(outbox -> outbox.markPublished(feedSequence.next(), now));
+
+            return pending.size();
+        });
+    }
+}
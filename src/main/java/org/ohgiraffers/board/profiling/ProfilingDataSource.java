@@ -0,0 +1,159 @@
+package org.ohgiraffers.board.profiling;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/** SQL 프로파일링 DataSource
+ * Connection / Statement / ResultSet 을 프록시로 감싸서
+ * SQL 실행 시간과 횟수, ResultSet에서 읽은 row 수를 현재 요청 프로파일에 기록하고 SQL 로거로 넘김
+ * */
+public class ProfilingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final SqlLogger sqlLogger;
+
+    public ProfilingDataSource(DataSource targetDataSource, SqlLogger sqlLogger) {
+        super(targetDataSource);
+        this.sqlLogger = sqlLogger;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return wrap(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static <T> T wrap(Class<T> type, TargetHandler handler) {
+        return type.cast(Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    // 프록시 공통 처리 : equals/hashCode는 프록시 자신 기준, 나머지는 대상 객체에 위임
+    private abstract static class TargetHandler implements InvocationHandler {
+
+        protected final Object target;
+
+        TargetHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handle(method, args);
+            }
+        }
+
+        protected abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        protected Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private class ConnectionHandler extends TargetHandler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+
+            // prepareStatement(sql), prepareCall(sql), createStatement()
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String prepared ? prepared : null;
+                return wrap(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private class StatementHandler extends TargetHandler {
+
+        private final String preparedSql;
+
+        StatementHandler(Statement target, String preparedSql) {
+            super(target);
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+
+            if (!method.getName().startsWith("execute")) {
+                return wrapResultSet(delegate(method, args));
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String executed ? executed : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return wrapResultSet(delegate(method, args));
+            } finally {
+                long nanos = System.nanoTime() - start;
+                RequestProfile profile = RequestProfileHolder.get();
+                if (profile != null) {
+                    profile.recordSql(nanos);
+                }
+                sqlLogger.log(sql, nanos);
+            }
+        }
+
+        // executeQuery(), getResultSet(), getGeneratedKeys() 의 결과에서 읽은 row 수 기록
+        private Object wrapResultSet(Object result) {
+            if (result instanceof ResultSet resultSet) {
+                return wrap(ResultSet.class, new ResultSetHandler(resultSet));
+            }
+            return result;
+        }
+    }
+
+    private static class ResultSetHandler extends TargetHandler {
+
+        ResultSetHandler(ResultSet target) {
+            super(target);
+        }
+
+        @Override
+        protected Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                RequestProfile profile = RequestProfileHolder.get();
+                if (profile != null) {
+                    profile.recordRow();
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.ohgiraffers.board.profiling;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// application.yml 의 board.profiling.* 설정
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.profiling")
+public class ProfilingProperties {
+
+    // 이 시간(ms) 이상 걸린 요청은 slow request 로그를 남김
+    private long slowRequestThresholdMs = 500;
+
+    private SqlLog sqlLog = new SqlLog();
+
+    @Getter
+    @Setter
+    public static class SqlLog {
+
+        private boolean enabled = false;
+
+        // 로그로 남길 SQL 비율 (0.0 ~ 1.0)
+        private double sampleRate = 0.01;
+
+        // 로그 대기 큐 크기, 가득 차면 버림
+        private int queueCapacity = 1000;
+    }
+}
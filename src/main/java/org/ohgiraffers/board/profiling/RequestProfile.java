@@ -0,0 +1,75 @@
+package org.ohgiraffers.board.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/** 요청 하나의 프로파일
+ * SQL 실행 횟수/시간, 읽은 row 수, 할당한 메모리(byte)를 모음
+ * scatter-gather 처럼 다른 스레드에서 실행된 SQL도 같은 프로파일에 더해지므로 thread-safe 카운터 사용
+ * */
+public class RequestProfile {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private final long startNanos = System.nanoTime();
+    private final long startAllocatedBytes = currentThreadAllocatedBytes();
+
+    private final LongAdder sqlCount = new LongAdder();
+    private final LongAdder sqlNanos = new LongAdder();
+    private final LongAdder rowsFetched = new LongAdder();
+
+    // 요청 스레드가 아닌 스레드(scatter)에서 할당한 메모리
+    private final LongAdder workerAllocatedBytes = new LongAdder();
+
+    public void recordSql(long nanos) {
+        sqlCount.increment();
+        sqlNanos.add(nanos);
+    }
+
+    public void recordRow() {
+        rowsFetched.increment();
+    }
+
+    public void recordWorkerAllocation(long bytes) {
+        workerAllocatedBytes.add(bytes);
+    }
+
+    public long getSqlCount() {
+        return sqlCount.sum();
+    }
+
+    public long getSqlNanos() {
+        return sqlNanos.sum();
+    }
+
+    public long getRowsFetched() {
+        return rowsFetched.sum();
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    // 요청 스레드에서 호출해야 함 (측정을 지원하지 않는 JVM이면 -1)
+    public long getAllocatedBytes() {
+        if (startAllocatedBytes < 0) {
+            return -1;
+        }
+        return currentThreadAllocatedBytes() - startAllocatedBytes + workerAllocatedBytes.sum();
+    }
+
+    static long currentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN == null) {
+            return -1;
+        }
+        return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package org.ohgiraffers.board.profiling;
+
+import java.util.function.Supplier;
+
+// 현재 스레드가 기록 중인 요청 프로파일 (요청 밖에서 실행되는 SQL은 null)
+public final class RequestProfileHolder {
+
+    private static final ThreadLocal<RequestProfile> CURRENT_PROFILE = new ThreadLocal<>();
+
+    private RequestProfileHolder() {
+    }
+
+    public static RequestProfile get() {
+        return CURRENT_PROFILE.get();
+    }
+
+    /** 작업 스레드에서 실행한 work의 메모리 할당량을 현재 요청 프로파일에 기록
+     * work가 값을 반환하기 전에 기록하므로, 결과를 기다리던 요청 스레드가 응답을 만들 때는 이미 반영되어 있음
+     * (TaskDecorator에서 작업이 끝난 뒤 기록하면 CompletableFuture가 먼저 완료되어 누락될 수 있음)
+     * */
+    public static <T> T measureWorkerAllocation(Supplier<T> work) {
+
+        RequestProfile profile = get();
+        long startAllocatedBytes = RequestProfile.currentThreadAllocatedBytes();
+        if (profile == null || startAllocatedBytes < 0) {
+            return work.get();
+        }
+
+        try {
+            return work.get();
+        } finally {
+            profile.recordWorkerAllocation(RequestProfile.currentThreadAllocatedBytes() - startAllocatedBytes);
+        }
+    }
+
+    static void set(RequestProfile profile) {
+        if (profile == null) {
+            CURRENT_PROFILE.remove();
+        } else {
+            CURRENT_PROFILE.set(profile);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.ohgiraffers.board.profiling;
+
+import org.springframework.core.task.TaskDecorator;
+
+// 작업을 제출한 요청의 프로파일을 작업 스레드로 넘겨서, 작업 스레드의 SQL도 같은 요청에 기록
+// 메모리 할당은 결과가 완료되기 전에 기록해야 하므로 작업 안에서 RequestProfileHolder.measureWorkerAllocation으로 측정
+public class RequestProfileTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+
+        RequestProfile profile = RequestProfileHolder.get();
+        if (profile == null) {
+            return runnable;
+        }
+
+        return () -> {
+            RequestProfile previous = RequestProfileHolder.get();
+            RequestProfileHolder.set(profile);
+            try {
+                runnable.run();
+            } finally {
+                RequestProfileHolder.set(previous);
+            }
+        };
+    }
+}
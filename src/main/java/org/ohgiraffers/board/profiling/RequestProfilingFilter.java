@@ -0,0 +1,203 @@
+package org.ohgiraffers.board.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/** 요청 프로파일링 필터
+ * 요청마다 RequestProfile을 만들어서 SQL 횟수/시간, 읽은 row 수, 할당 메모리를 기록하고
+ * 1) 응답 헤더 Server-Timing 으로 반환
+ * 2) 처리 시간이 임계값을 넘으면 slow request 로그 남김
+ *
+ * Server-Timing은 응답 본문의 첫 바이트가 나가기 직전에 기록 : 작은 응답은 Jackson 직렬화 시간까지 포함됨
+ * */
+@Slf4j
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    private final long slowRequestThresholdNanos;
+
+    public RequestProfilingFilter(long slowRequestThresholdMillis) {
+        this.slowRequestThresholdNanos = slowRequestThresholdMillis * 1_000_000;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestProfile profile = new RequestProfile();
+        RequestProfileHolder.set(profile);
+
+        ServerTimingResponse profiledResponse = new ServerTimingResponse(response, profile);
+        try {
+            filterChain.doFilter(request, profiledResponse);
+        } finally {
+            // 본문이 없는 응답은 여기서 헤더 기록
+            profiledResponse.writeServerTiming();
+            RequestProfileHolder.set(null);
+            logIfSlow(request, response, profile);
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, HttpServletResponse response, RequestProfile profile) {
+
+        long elapsedNanos = profile.getElapsedNanos();
+        if (elapsedNanos < slowRequestThresholdNanos) {
+            return;
+        }
+
+        log.warn("slow request {} {} status={} total={}ms sql={} sqlTime={}ms rows={} allocated={}bytes",
+                request.getMethod(), request.getRequestURI(), response.getStatus(),
+                toMillis(elapsedNanos), profile.getSqlCount(), toMillis(profile.getSqlNanos()),
+                profile.getRowsFetched(), profile.getAllocatedBytes());
+    }
+
+    static String serverTiming(RequestProfile profile) {
+
+        StringBuilder header = new StringBuilder()
+                .append("db;dur=").append(toMillis(profile.getSqlNanos()))
+                .append(";desc=\"").append(profile.getSqlCount()).append(" queries, ")
+                .append(profile.getRowsFetched()).append(" rows\"")
+                .append(", app;dur=").append(toMillis(profile.getElapsedNanos()));
+
+        long allocatedBytes = profile.getAllocatedBytes();
+        if (allocatedBytes >= 0) {
+            header.append(", alloc;desc=\"").append(allocatedBytes).append(" bytes\"");
+        }
+        return header.toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    // 본문을 처음 쓰기 직전(= 응답이 커밋되기 전)에 Server-Timing 헤더를 추가하는 응답 래퍼
+    private static class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestProfile profile;
+        private boolean written;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        ServerTimingResponse(HttpServletResponse response, RequestProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        void writeServerTiming() {
+            if (written) {
+                return;
+            }
+            written = true;
+            if (!isCommitted()) {
+                setHeader("Server-Timing", serverTiming(profile));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ServerTimingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new ServerTimingWriter(super.getWriter());
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        // PrintWriter(Writer)는 자체 버퍼 없이 바로 위임하므로, 컨테이너의 writer가 그대로 flush 됨
+        private class ServerTimingWriter extends PrintWriter {
+
+            ServerTimingWriter(PrintWriter delegate) {
+                super(delegate);
+            }
+
+            @Override
+            public void write(int c) {
+                writeServerTiming();
+                super.write(c);
+            }
+
+            @Override
+            public void write(char[] buf, int off, int len) {
+                writeServerTiming();
+                super.write(buf, off, len);
+            }
+
+            @Override
+            public void write(String s, int off, int len) {
+                writeServerTiming();
+                super.write(s, off, len);
+            }
+
+            @Override
+            public void flush() {
+                writeServerTiming();
+                super.flush();
+            }
+        }
+
+        private class ServerTimingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            ServerTimingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                writeServerTiming();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writeServerTiming();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                writeServerTiming();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                writeServerTiming();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.ohgiraffers.board.profiling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/** 비동기 샘플링 SQL 로거 (show_sql 대체)
+ * show_sql은 모든 SQL을 요청 스레드에서 바로 stdout에 출력해서 처리량을 떨어뜨림
+ * 여기서는 sampleRate 비율만 골라 큐에 넣고, 별도 스레드가 로그를 남김
+ * 큐가 가득 차면 기다리지 않고 버림 (버린 수는 dropped로 확인)
+ * */
+@Slf4j
+public class SqlLogger implements AutoCloseable {
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final BlockingQueue<String> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+
+    public SqlLogger(boolean enabled, double sampleRate, int queueCapacity) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::drain, "sql-logger");
+        this.writer.setDaemon(true);
+        if (enabled) {
+            this.writer.start();
+        }
+    }
+
+    public void log(String sql, long nanos) {
+        if (!enabled || sql == null || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        String line = String.format(Locale.ROOT, "[%.3fms] %s", nanos / 1_000_000.0, sql);
+        if (!queue.offer(line)) {
+            dropped.increment();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private void drain() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                String line = queue.poll(1, TimeUnit.SECONDS);
+                if (line != null) {
+                    log.info(line);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        writer.interrupt();
+    }
+}
@@ -0,0 +1,21 @@
+package org.ohgiraffers.board.repository;
+
+import org.ohgiraffers.board.domain.entity.AuthorPostCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AuthorPostCountRepository extends JpaRepository<AuthorPostCount, String> {
+
+    // 조회 후 저장하지 않고 DB에서 원자적으로 증가 (동시 작성 시 갱신 손실 방지)
+    @Modifying
+    @Query(value = "INSERT INTO author_post_count (author, post_count) VALUES (:author, 1) " +
+            "ON DUPLICATE KEY UPDATE post_count = post_count + 1", nativeQuery = true)
+    void increment(@Param("author") String author);
+
+    @Modifying
+    @Query(value = "UPDATE author_post_count SET post_count = post_count - 1 " +
+            "WHERE author = :author AND post_count > 0", nativeQuery = true)
+    void decrement(@Param("author") String author);
+}
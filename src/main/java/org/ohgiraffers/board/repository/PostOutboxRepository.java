@@ -0,0 +1,17 @@
+package org.ohgiraffers.board.repository;
+
+import org.ohgiraffers.board.domain.entity.PostOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PostOutboxRepository extends JpaRepository<PostOutbox, Long> {
+
+    // relay : 아직 발행되지 않은 이벤트를 오래된 순서대로 조회
+    // 잠그지 않음 : relay 사이의 직렬화는 순번 행 잠금(PostOutboxSequenceRepository)이 담당
+    List<PostOutbox> findByPublishedFalseOrderByOutboxIdAsc(Pageable pageable);
+
+    // 변경 피드 : since 이후에 발행된 이벤트만 조회 (미발행 이벤트는 feedSeq가 null이라 제외)
+    List<PostOutbox> findByFeedSeqGreaterThanOrderByFeedSeqAsc(Long since, Pageable pageable);
+}
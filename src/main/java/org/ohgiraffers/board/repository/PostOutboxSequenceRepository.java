@@ -0,0 +1,15 @@
+package org.ohgiraffers.board.repository;
+
+import jakarta.persistence.LockModeType;
+import org.ohgiraffers.board.domain.entity.PostOutboxSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.util.Optional;
+
+public interface PostOutboxSequenceRepository extends JpaRepository<PostOutboxSequence, Integer> {
+
+    // relay : 순번 행을 커밋까지 잠가서 같은 샤드의 relay 트랜잭션을 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PostOutboxSequence> findWithLockBySequenceId(Integer sequenceId);
+}
@@ -1,7 +1,19 @@
 package org.ohgiraffers.board.repository;
 
 import org.ohgiraffers.board.domain.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-}
\ No newline at end of file
+
+    // keyset 조회 : offset 없이 마지막으로 받은 postId(cursor) 이전부터 읽으므로 뒤 페이지도 빠름
+    // List 반환 : Page와 달리 count 쿼리를 실행하지 않음 (전체 수는 카운터 테이블 사용)
+    List<Post> findByAuthorAndPostIdLessThanOrderByPostIdDesc(String author, Long cursor, Pageable pageable);
+
+    @Query("select p from Post p join p.tags t where t = :tag and p.postId < :cursor order by p.postId desc")
+    List<Post> findByTagAndPostIdLessThan(@Param("tag") String tag, @Param("cursor") Long cursor, Pageable pageable);
+}
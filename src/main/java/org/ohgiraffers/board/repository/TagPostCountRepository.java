@@ -0,0 +1,21 @@
+package org.ohgiraffers.board.repository;
+
+import org.ohgiraffers.board.domain.entity.TagPostCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TagPostCountRepository extends JpaRepository<TagPostCount, String> {
+
+    // 조회 후 저장하지 않고 DB에서 원자적으로 증가 (동시 작성 시 갱신 손실 방지)
+    @Modifying
+    @Query(value = "INSERT INTO tag_post_count (tag, post_count) VALUES (:tag, 1) " +
+            "ON DUPLICATE KEY UPDATE post_count = post_count + 1", nativeQuery = true)
+    void increment(@Param("tag") String tag);
+
+    @Modifying
+    @Query(value = "UPDATE tag_post_count SET post_count = post_count - 1 " +
+            "WHERE tag = :tag AND post_count > 0", nativeQuery = true)
+    void decrement(@Param("tag") String tag);
+}
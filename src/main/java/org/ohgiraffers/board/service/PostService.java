@@ -3,13 +3,35 @@ package org.ohgiraffers.board.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.ohgiraffers.board.domain.dto.*;
+import org.ohgiraffers.board.domain.entity.AuthorPostCount;
 import org.ohgiraffers.board.domain.entity.Post;
+import org.ohgiraffers.board.domain.entity.PostChangeType;
+import org.ohgiraffers.board.domain.entity.PostOutbox;
+import org.ohgiraffers.board.domain.entity.TagPostCount;
+import org.ohgiraffers.board.outbox.PostOutboxAppender;
+import org.ohgiraffers.board.repository.AuthorPostCountRepository;
+import org.ohgiraffers.board.repository.PostOutboxRepository;
 import org.ohgiraffers.board.repository.PostRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.ohgiraffers.board.repository.TagPostCountRepository;
+import org.ohgiraffers.board.shard.ShardRouter;
+import org.ohgiraffers.board.shard.SnowflakeIdGenerator;
+import org.ohgiraffers.board.support.SingleFlight;
+import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
 
 /** Service를 인터페이스와 구현체로 나누는 이유
  * 1) 다형성과 OCP 원칙을 지키기 위해 : 구현체는 독립되어 구현체의 수정이나 확장이 자유로워짐
@@ -18,79 +40,325 @@ import org.springframework.web.bind.annotation.PutMapping;
  * 지금은 CGLB를 기본으로 포함하여 클래스 기반으로 프록시 객체 생성이 가능해짐
  * */
 
+/** 샤딩과 트랜잭션
+ * 게시글은 postId로 정해지는 샤드(DB)에 저장되므로, 트랜잭션을 열기 전에 샤드가 먼저 결정되어야 함
+ * 그래서 @Transactional 대신 ShardRouter가 샤드를 지정한 뒤 그 샤드에서 트랜잭션을 실행
+ * */
+
 @Service
-@Transactional(readOnly = true)   // 해당 메소드에서 데이터를 수정하지 않고 읽기 작업만 수행
 @RequiredArgsConstructor   // 필드를 초기화하는 생성자 자동 생성
 public class PostService {
 
+    // 페이지 번호 방식으로 조회할 수 있는 최대 범위 (offset + size)
+    static final int MAX_PAGE_WINDOW = 10_000;
+
     // Post 엔티티에 대한 CRUD 수행을 위해 사용되는 레포지토리
     private final PostRepository postRepository;
 
-    @Transactional
+    // 게시글 변경 이벤트(outbox)를 같은 트랜잭션에서 기록
+    private final PostOutboxAppender postOutboxAppender;
+    private final PostOutboxRepository postOutboxRepository;
+
+    // 같은 postId에 대한 동시 조회를 하나의 DB 조회로 병합
+    private final SingleFlight<Long, ReadPostResponse> postReadSingleFlight;
+
+    // postId 발급 및 샤드 라우팅
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final ShardRouter shardRouter;
+
+    // 작성자별/태그별 게시글 수 (비정규화 카운터)
+    private final AuthorPostCountRepository authorPostCountRepository;
+    private final TagPostCountRepository tagPostCountRepository;
+
     public CreatePostResponse createPost(CreatePostRequest request) {
 
-        // request의 데이터를 이용하여 신규 게시물 객체 생성(builder 패턴 사용)
-        Post post = Post.builder()
-                .title(request.getTitle())
-                .content(request.getContent())
-                .build();
+        // 전역 고유 id를 먼저 발급해서 저장할 샤드를 결정
+        long postId = snowflakeIdGenerator.nextId();
 
-        // 레포지토리를 이용하여 게시물 저장
-        Post savedPost = postRepository.save(post);
+        return shardRouter.write(postId, () -> {
 
-        // 저장된 결과를 CreatePostResponse 객체로 반환
-        return new CreatePostResponse(savedPost.getPostId(), savedPost.getTitle(), savedPost.getContent());
+            // request의 데이터를 이용하여 신규 게시물 객체 생성(builder 패턴 사용)
+            Post post = Post.builder()
+                    .postId(postId)
+                    .title(request.getTitle())
+                    .content(request.getContent())
+                    .author(request.getAuthor())
+                    .tags(normalizeTags(request.getTags()))
+                    .build();
+
+            // 레포지토리를 이용하여 게시물 저장
+            Post savedPost = postRepository.save(post);
+            increasePostCounts(savedPost);
+            postOutboxAppender.append(PostChangeType.CREATED, savedPost);
+
+            // 저장된 결과를 CreatePostResponse 객체로 반환
+            return new CreatePostResponse(savedPost.getPostId(), savedPost.getTitle(), savedPost.getContent(),
+                    savedPost.getAuthor(), sortedTags(savedPost));
+        });
     }
 
     public ReadPostResponse readPostById(Long postId) {
 
-        // 주어진 postId로 특정 게시물 조회
-        Post foundPost = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 postId로 조회된 게시글이 없습니다."));  // 해당 게시물 없을 경우 예외 처리
+        // 병합을 기다리는 요청은 트랜잭션(DB 커넥션)을 잡지 않음 : leader 요청만 샤드에서 읽기 트랜잭션 실행
+        return postReadSingleFlight.execute(postId, () -> shardRouter.read(postId, () -> {
 
-        // 조회된 결과 foundPost를 반환
-        return new ReadPostResponse(foundPost.getPostId(), foundPost.getTitle(), foundPost.getContent());
+            // 주어진 postId로 특정 게시물 조회
+            Post foundPost = postRepository.findById(postId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 postId로 조회된 게시글이 없습니다."));  // 해당 게시물 없을 경우 예외 처리
+
+            // 조회된 결과 foundPost를 반환 (병합된 요청들이 같은 응답 객체를 공유)
+            return toReadPostResponse(foundPost);
+        }));
     }
 
-    @Transactional
     public UpdatePostResponse updatePost(Long postId, UpdatePostRequest request) {
 
-        // 주어진 postId로 특정 게시물 조회
-        Post foundPost = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 postId로 조회된 게시글이 없습니다."));
+        return shardRouter.write(postId, () -> {
+
+            // 주어진 postId로 특정 게시물 조회
+            Post foundPost = postRepository.findById(postId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 postId로 조회된 게시글이 없습니다."));
 
-        // Dirty Checking : 객체 상태를 모니터링하고 변경 시 자동으로 DB 업데이트. ORM 프레임워크(hibernate)에서 사용.
-        foundPost.update(request.getTitle(), request.getContent());
+            // Dirty Checking : 객체 상태를 모니터링하고 변경 시 자동으로 DB 업데이트. ORM 프레임워크(hibernate)에서 사용.
+            foundPost.update(request.getTitle(), request.getContent());
+            postOutboxAppender.append(PostChangeType.UPDATED, foundPost);
 
-        // update된 새로운 foundPost를 반환
-        return new UpdatePostResponse(foundPost.getPostId(), foundPost.getTitle(), foundPost.getContent());
+            // update된 새로운 foundPost를 반환
+            return new UpdatePostResponse(foundPost.getPostId(), foundPost.getTitle(), foundPost.getContent());
+        });
     }
 
-    @Transactional
     public DeletePostResponse deletePost(Long postId) {
 
-        // 주어진 postId로 특정 게시물 조회
-        Post foundPost = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 postId로 조회된 게시글이 없습니다."));
+        return shardRouter.write(postId, () -> {
 
-        postRepository.delete(foundPost);
+            // 주어진 postId로 특정 게시물 조회
+            Post foundPost = postRepository.findById(postId)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 postId로 조회된 게시글이 없습니다."));
 
-        // 삭제된 foundPost의 postId 반환
-        return new DeletePostResponse(foundPost.getPostId());
+            decreasePostCounts(foundPost);
+            postRepository.delete(foundPost);
+            postOutboxAppender.append(PostChangeType.DELETED, foundPost);
+
+            // 삭제된 foundPost의 postId 반환
+            return new DeletePostResponse(foundPost.getPostId());
+        });
     }
 
 
+    /** 게시글 전체 목록 (페이지 번호 방식)
+     * 정렬은 postId(= 작성 순서)만 지원 : 샤드마다 정렬해서 병합하므로 다른 정렬 기준은 400
+     * 샤드가 여러 개면 요청한 페이지까지의 (offset + size)건을 샤드마다 읽어서 병합하므로 뒤 페이지일수록 비용이 커짐
+     * offset + size가 MAX_PAGE_WINDOW를 넘으면 400 : 깊은 페이지는 keyset 방식(/authors, /tags의 cursor)을 사용
+     * */
     public Page<ReadPostResponse> readAllPost(Pageable pageable) {
 
-        // page로 wrapping된 postPage 가져오기
-        Page<Post> postsPage = postRepository.findAll(pageable);
+        for (Sort.Order order : pageable.getSort()) {
+            if (!order.getProperty().equals("postId")) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "정렬은 postId만 지원합니다 : " + order.getProperty());
+            }
+        }
+
+        int window;
+        try {
+            window = Math.toIntExact(Math.addExact(pageable.getOffset(), pageable.getPageSize()));
+        } catch (ArithmeticException e) {
+            window = Integer.MAX_VALUE;
+        }
+        if (window > MAX_PAGE_WINDOW) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "페이지 번호 방식은 앞쪽 " + MAX_PAGE_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        // 샤드가 하나면 병합 없이 그대로 조회
+        // 태그는 지연 로딩이므로 트랜잭션 안에서 응답 객체로 변환
+        if (shardRouter.getShardCount() == 1) {
+            return shardRouter.readOnShard(0, () -> postRepository.findAll(pageable).map(this::toReadPostResponse));
+        }
+
+        /* scatter-gather
+         * postId(Snowflake)는 시간 순서이므로 postId 정렬 = 최신순 정렬
+         * 요청한 페이지까지의 상위 (offset + size)건을 샤드마다 가져와서 병합한 뒤 해당 페이지만 잘라냄
+         * */
+        Sort.Order order = pageable.getSort().getOrderFor("postId");
+        Sort.Direction direction = order == null ? Sort.Direction.DESC : order.getDirection();
+        int offset = (int) pageable.getOffset();
+        Pageable shardPageable = PageRequest.of(0, window, Sort.by(direction, "postId"));
 
-        // 가져온 postPage를 ReadPostResponse 형태로 반환
-        return  postsPage.map(post -> new ReadPostResponse(
-                post.getPostId(),
-                post.getTitle(),
-                post.getContent()
+        List<Page<ReadPostResponse>> shardPages = shardRouter.readAll(shard -> postRepository.findAll(shardPageable)
+                .map(this::toReadPostResponse));
+
+        Comparator<ReadPostResponse> byPostId = Comparator.comparing(ReadPostResponse::getPostId);
+        List<ReadPostResponse> content = shardPages.stream()
+                .flatMap(page -> page.getContent().stream())
+                .sorted(direction.isDescending() ? byPostId.reversed() : byPostId)
+                .skip(offset)
+                .limit(pageable.getPageSize())
+                .toList();
+
+        long total = shardPages.stream().mapToLong(Page::getTotalElements).sum();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /** 작성자별 게시글 목록 (최신순 keyset)
+     * cursor : 이전 응답의 nextCursor, 첫 페이지는 null
+     * 전체 수는 count(*) 대신 카운터 테이블에서 조회
+     * */
+    public ReadPostSliceResponse readPostsByAuthor(String author, Long cursor, int size) {
+
+        Long before = cursor == null ? Long.MAX_VALUE : cursor;
+
+        return readPostSlice(size,
+                shard -> postRepository.findByAuthorAndPostIdLessThanOrderByPostIdDesc(author, before, PageRequest.of(0, size)),
+                shard -> authorPostCountRepository.findById(author).map(AuthorPostCount::getPostCount).orElse(0L));
+    }
+
+    /** 태그별 게시글 목록 (최신순 keyset)
+     * cursor : 이전 응답의 nextCursor, 첫 페이지는 null
+     * 전체 수는 count(*) 대신 카운터 테이블에서 조회
+     * */
+    public ReadPostSliceResponse readPostsByTag(String tag, Long cursor, int size) {
+
+        Long before = cursor == null ? Long.MAX_VALUE : cursor;
+        String normalizedTag = normalizeTag(tag);
+
+        return readPostSlice(size,
+                shard -> postRepository.findByTagAndPostIdLessThan(normalizedTag, before, PageRequest.of(0, size)),
+                shard -> tagPostCountRepository.findById(normalizedTag).map(TagPostCount::getPostCount).orElse(0L));
+    }
+
+    // 샤드마다 최신 size건과 카운터를 읽어서 병합 (샤드당 읽기 트랜잭션 1번)
+    private ReadPostSliceResponse readPostSlice(int size, IntFunction<List<Post>> findPosts, IntFunction<Long> findCount) {
+
+        List<ShardSlice> shardSlices = shardRouter.readAll(shard -> new ShardSlice(
+                findPosts.apply(shard).stream().map(this::toReadPostResponse).toList(),
+                findCount.apply(shard)
         ));
+
+        List<ReadPostResponse> posts = shardSlices.stream()
+                .flatMap(slice -> slice.posts().stream())
+                .sorted(Comparator.comparing(ReadPostResponse::getPostId).reversed())
+                .limit(size)
+                .toList();
+
+        Long nextCursor = posts.size() < size ? null : posts.get(posts.size() - 1).getPostId();
+        long totalCount = shardSlices.stream().mapToLong(ShardSlice::count).sum();
+
+        return new ReadPostSliceResponse(posts, nextCursor, totalCount);
+    }
+
+    private record ShardSlice(List<ReadPostResponse> posts, long count) {
+    }
+
+    /** 변경 피드 조회
+     * since(샤드별로 마지막으로 받은 feedSeq) 이후에 발행된 변경분만 발행 순서대로 반환
+     * 소비자는 응답의 nextSince를 다음 요청의 since로 그대로 사용 (처음 요청은 since 생략)
+     * feedSeq는 샤드마다 relay가 커밋 순서대로 부여하므로, 늦게 커밋된 트랜잭션의 이벤트도 since 뒤에 나타남 (건너뛰지 않음)
+     * 커서는 샤드 수만큼의 feedSeq를 "."로 이은 값 (예 : 12.0.7), 샤드 사이의 순서는 발행 시각 기준
+     * 아직 발행되지 않은 이벤트는 relay 주기(board.outbox.relay-interval-ms)만큼 늦게 피드에 나타남
+     * */
+    public ReadPostChangesResponse readPostChanges(String since, int size) {
+
+        long[] cursor = parseFeedCursor(since);
+
+        List<List<PostOutbox>> shardOutboxes = shardRouter.readAll(shard -> postOutboxRepository
+                .findByFeedSeqGreaterThanOrderByFeedSeqAsc(cursor[shard], PageRequest.of(0, size)));
+
+        // 샤드별 순서(feedSeq)를 유지하면서 발행 시각이 이른 것부터 병합 : 샤드마다 앞에서부터 가져간 만큼만 커서 이동
+        List<ArrayDeque<PostOutbox>> pending = shardOutboxes.stream().map(ArrayDeque::new).toList();
+        long[] nextCursor = cursor.clone();
+        List<PostChangeResponse> changes = new ArrayList<>();
+
+        while (changes.size() < size) {
+            int earliestShard = -1;
+            for (int shard = 0; shard < pending.size(); shard++) {
+                PostOutbox head = pending.get(shard).peek();
+                if (head != null && (earliestShard < 0
+                        || head.getPublishedAt().isBefore(pending.get(earliestShard).peek().getPublishedAt()))) {
+                    earliestShard = shard;
+                }
+            }
+            if (earliestShard < 0) {
+                break;
+            }
+
+            PostOutbox outbox = pending.get(earliestShard).poll();
+            nextCursor[earliestShard] = outbox.getFeedSeq();
+            changes.add(new PostChangeResponse(
+                    outbox.getOutboxId(),
+                    outbox.getPostId(),
+                    outbox.getChangeType(),
+                    outbox.getPayload(),
+                    outbox.getOccurredAt()
+            ));
+        }
+
+        return new ReadPostChangesResponse(changes, formatFeedCursor(nextCursor));
+    }
+
+    private long[] parseFeedCursor(String since) {
+
+        long[] cursor = new long[shardRouter.getShardCount()];
+        if (since == null || since.isBlank()) {
+            return cursor;
+        }
+
+        String[] seqs = since.split("\\.");
+        if (seqs.length != cursor.length) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "since는 샤드 " + cursor.length + "개의 feedSeq여야 합니다.");
+        }
+        try {
+            for (int shard = 0; shard < cursor.length; shard++) {
+                cursor[shard] = Long.parseLong(seqs[shard]);
+            }
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "since 형식이 올바르지 않습니다.", e);
+        }
+        return cursor;
+    }
+
+    private String formatFeedCursor(long[] cursor) {
+        return Arrays.stream(cursor).mapToObj(String::valueOf).collect(Collectors.joining("."));
+    }
+
+    private void increasePostCounts(Post post) {
+        if (post.getAuthor() != null) {
+            authorPostCountRepository.increment(post.getAuthor());
+        }
+        post.getTags().forEach(tagPostCountRepository::increment);
+    }
+
+    private void decreasePostCounts(Post post) {
+        if (post.getAuthor() != null) {
+            authorPostCountRepository.decrement(post.getAuthor());
+        }
+        post.getTags().forEach(tagPostCountRepository::decrement);
+    }
+
+    private ReadPostResponse toReadPostResponse(Post post) {
+        return new ReadPostResponse(post.getPostId(), post.getTitle(), post.getContent(), post.getAuthor(), sortedTags(post));
+    }
+
+    private static List<String> sortedTags(Post post) {
+        return post.getTags().stream().sorted().toList();
+    }
+
+    // 태그는 앞뒤 공백 제거 후 소문자로 저장 (같은 태그가 대소문자로 나뉘지 않도록)
+    private static Set<String> normalizeTags(List<String> tags) {
+        Set<String> normalized = new HashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null && !tag.isBlank()) {
+                    normalized.add(normalizeTag(tag));
+                }
+            }
+        }
+        return normalized;
+    }
+
+    private static String normalizeTag(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
     }
 
 }
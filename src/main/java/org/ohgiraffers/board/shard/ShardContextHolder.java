@@ -0,0 +1,22 @@
+package org.ohgiraffers.board.shard;
+
+// 현재 스레드가 사용할 샤드 번호 (ShardRoutingDataSource가 커넥션을 얻을 때 참조)
+public final class ShardContextHolder {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private ShardContextHolder() {
+    }
+
+    public static Integer get() {
+        return CURRENT_SHARD.get();
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT_SHARD.remove();
+        } else {
+            CURRENT_SHARD.set(shard);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.ohgiraffers.board.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** application.yml 의 board.shard.* 설정
+ * datasources 순서가 곧 샤드 번호 : 샤드 수를 바꾸면 기존 게시글의 샤드 위치도 바뀌므로 재분배가 필요
+ * */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "board.shard")
+public class ShardProperties {
+
+    // Snowflake workerId : 서버마다 다르게 설정 (0 ~ 1023)
+    private long workerId = 0;
+
+    // 기동 시 각 샤드에 schema-shard.sql 실행 여부
+    private boolean initSchema = true;
+
+    // 여러 샤드에 동시에 조회(scatter-gather)할 때 사용하는 스레드 수 (서버 전체가 공유, 샤드가 1개면 사용하지 않음)
+    // 작업 스레드마다 샤드 커넥션을 1개씩 쥐므로 샤드별 Hikari maximum-pool-size(기본 10)보다 작게 설정
+    // 크게 잡으면 scatter 조회가 한 샤드의 커넥션을 모두 차지해서 쓰기 요청이 connection-timeout까지 대기할 수 있음
+    private int scatterThreads = 8;
+
+    private List<DataSource> datasources = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class DataSource {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
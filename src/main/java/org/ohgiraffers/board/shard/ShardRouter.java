@@ -0,0 +1,131 @@
+package org.ohgiraffers.board.shard;
+
+import org.ohgiraffers.board.profiling.RequestProfileHolder;
+import org.springframework.scheduling.concurrent.ExecutorConfigurationSupport;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/** 샤드 라우터
+ * postId로 샤드를 결정하고, 해당 샤드를 현재 스레드에 지정한 상태로 트랜잭션을 실행
+ * 트랜잭션은 샤드 하나에서만 열림 : 여러 샤드를 다루는 조회는 readAll로 샤드별 트랜잭션을 병렬 실행(scatter-gather)
+ * */
+public class ShardRouter implements AutoCloseable {
+
+    private final int shardCount;
+    private final TransactionOperations writeTransaction;
+    private final TransactionOperations readTransaction;
+    private final Executor executor;
+
+    public ShardRouter(int shardCount, TransactionOperations writeTransaction,
+                       TransactionOperations readTransaction, Executor executor) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("샤드는 1개 이상이어야 합니다.");
+        }
+        this.shardCount = shardCount;
+        this.writeTransaction = writeTransaction;
+        this.readTransaction = readTransaction;
+        this.executor = executor;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    // Snowflake id는 하위 비트(순번)가 대부분 0이라 그대로 나머지를 구하면 한쪽으로 몰림 : 비트를 섞은 뒤 나머지 연산
+    public int shardOf(long id) {
+        return (int) Math.floorMod(mix(id), (long) shardCount);
+    }
+
+    public <T> T write(long id, Supplier<T> work) {
+        return inShard(shardOf(id), writeTransaction, work);
+    }
+
+    public <T> T read(long id, Supplier<T> work) {
+        return inShard(shardOf(id), readTransaction, work);
+    }
+
+    public <T> T readOnShard(int shard, Supplier<T> work) {
+        return inShard(shard, readTransaction, work);
+    }
+
+    public <T> T writeOnShard(int shard, Supplier<T> work) {
+        return inShard(shard, writeTransaction, work);
+    }
+
+    // 모든 샤드에서 읽기 트랜잭션을 병렬로 실행하고 샤드 번호 순서대로 결과를 모음
+    // 샤드가 하나면 작업 스레드를 거치지 않고 현재 스레드에서 실행
+    public <T> List<T> readAll(IntFunction<T> work) {
+
+        if (shardCount == 1) {
+            return Collections.singletonList(readOnShard(0, () -> work.apply(0)));
+        }
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            // 작업 스레드의 메모리 할당은 결과를 반환하기 전에 요청 프로파일에 기록
+            futures.add(CompletableFuture.supplyAsync(() -> RequestProfileHolder.measureWorkerAllocation(
+                    () -> inShard(target, readTransaction, () -> work.apply(target))), executor));
+        }
+
+        List<T> results = new ArrayList<>(shardCount);
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    private <T> T inShard(int shard, TransactionOperations transaction, Supplier<T> work) {
+
+        Integer previous = ShardContextHolder.get();
+
+        // 이미 열린 트랜잭션은 다른 샤드의 커넥션을 쥐고 있으므로 샤드를 넘나들 수 없음
+        if (TransactionSynchronizationManager.isActualTransactionActive() && !Objects.equals(previous, shard)) {
+            throw new IllegalStateException("하나의 트랜잭션에서 여러 샤드에 접근할 수 없습니다.");
+        }
+
+        ShardContextHolder.set(shard);
+        try {
+            return transaction.execute(status -> work.get());
+        } finally {
+            ShardContextHolder.set(previous);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        } else if (executor instanceof ExecutorConfigurationSupport executorSupport) {
+            executorSupport.shutdown();
+        }
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,28 @@
+package org.ohgiraffers.board.shard;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/** 샤드 라우팅 DataSource
+ * 커넥션을 얻는 시점의 ShardContextHolder 값으로 실제 샤드 DataSource를 선택
+ * 샤드가 지정되지 않은 경우(기동 시 Hibernate 메타데이터 조회 등)는 기본 샤드(0번) 사용
+ * */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContextHolder.get();
+    }
+
+    // 샤드 DataSource는 빈이 아니므로 직접 커넥션 풀 종료
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : getResolvedDataSources().values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.ohgiraffers.board.shard;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/** 샤드 스키마 마이그레이션
+ * schema-shard.sql의 CREATE TABLE IF NOT EXISTS는 이미 있는 테이블을 건드리지 않으므로
+ * 이후 추가된 컬럼/인덱스는 여기서 기존 테이블에 반영 (ddl-auto : none)
+ * 적용 여부를 DB 메타데이터(또는 조회 결과)로 확인한 뒤 없을 때만 실행 : 매 기동마다 다시 실행해도 안전
+ * */
+@Slf4j
+public class ShardSchemaMigrator {
+
+    private final List<Migration> migrations = new ArrayList<>();
+
+    public ShardSchemaMigrator() {
+        // 작성자별 조회 (작성자/태그 필터링 추가 시점)
+        addColumn("post", "author", "ALTER TABLE post ADD COLUMN author VARCHAR(255)");
+        addIndex("post", "idx_post_author", "CREATE INDEX idx_post_author ON post (author, post_id)");
+
+        // 변경 피드 순번 행 (테이블은 schema-shard.sql이 생성)
+        addRow("SELECT 1 FROM post_outbox_sequence WHERE sequence_id = 1",
+                "INSERT INTO post_outbox_sequence (sequence_id, last_seq) VALUES (1, 0)");
+    }
+
+    public void addColumn(String table, String column, String... statements) {
+        migrations.add(new Migration((connection, metaData) ->
+                contains(metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+                        tableName(metaData, table), null), "COLUMN_NAME", column), statements));
+    }
+
+    public void addIndex(String table, String index, String... statements) {
+        migrations.add(new Migration((connection, metaData) ->
+                contains(metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(),
+                        tableName(metaData, table), false, false), "INDEX_NAME", index), statements));
+    }
+
+    /** existsQuery의 결과가 1건 이상이면 적용된 것으로 판단 (기본 데이터 등) */
+    public void addRow(String existsQuery, String... statements) {
+        migrations.add(new Migration((connection, metaData) -> {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(existsQuery)) {
+                return resultSet.next();
+            }
+        }, statements));
+    }
+
+    /** 적용되지 않은 마이그레이션만 순서대로 실행하고 실행한 건수를 반환 */
+    public int migrate(DataSource dataSource) {
+
+        int applied = 0;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Migration migration : migrations) {
+                if (migration.check().isApplied(connection, metaData)) {
+                    continue;
+                }
+                for (String sql : migration.statements()) {
+                    log.info("shard schema migration : {}", sql);
+                    statement.execute(sql);
+                }
+                applied++;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("샤드 스키마 마이그레이션에 실패했습니다.", e);
+        }
+        return applied;
+    }
+
+    // 식별자 대소문자 저장 방식이 DB마다 다름 (MySQL : 그대로, H2 : 대문자)
+    private static String tableName(DatabaseMetaData metaData, String table) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+    }
+
+    private static boolean contains(ResultSet resultSet, String label, String name) throws SQLException {
+        try (resultSet) {
+            while (resultSet.next()) {
+                if (name.equalsIgnoreCase(resultSet.getString(label))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        boolean isApplied(Connection connection, DatabaseMetaData metaData) throws SQLException;
+    }
+
+    private record Migration(Check check, String... statements) {
+    }
+}
@@ -0,0 +1,60 @@
+package org.ohgiraffers.board.shard;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/** Snowflake 방식의 id 생성기
+ * | 41bit : epoch 이후 밀리초 | 10bit : workerId | 12bit : 같은 밀리초 안의 순번 |
+ * 서버(workerId)마다 겹치지 않는 전역 고유 id를 DB 왕복 없이 발급하고, 값이 클수록 최신
+ *
+ * 시계가 뒤로 가거나 한 밀리초에 4096개를 넘게 발급하면 마지막 시각을 기준으로 이어서 발급 (단조 증가 유지)
+ * */
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int WORKER_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long workerId;
+    private final Clock clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeIdGenerator(long workerId) {
+        this(workerId, Clock.systemUTC());
+    }
+
+    public SnowflakeIdGenerator(long workerId, Clock clock) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId는 0 ~ " + MAX_WORKER_ID + " 사이여야 합니다.");
+        }
+        this.workerId = workerId;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+
+        long timestamp = Math.max(clock.millis(), lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            // 같은 밀리초의 순번을 다 쓰면 다음 밀리초로 넘어감
+            if (sequence == 0) {
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | sequence;
+    }
+}
@@ -0,0 +1,131 @@
+package org.ohgiraffers.board.support;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/** Single-flight 요청 병합
+ * 같은 key에 대한 조회가 동시에 들어오면 먼저 들어온 요청(leader)만 실제로 loader를 실행하고,
+ * 나머지 요청은 leader의 결과(또는 예외 객체)를 그대로 공유받음
+ * 결과를 캐싱하지는 않음 : leader가 끝나면 다음 요청은 다시 loader를 실행
+ * leader가 waitTimeout 안에 끝나지 않으면 기다리던 요청은 합류를 포기하고 직접 loader를 실행
+ * */
+public class SingleFlight<K, V> {
+
+    private static final Duration DEFAULT_WAIT_TIMEOUT = Duration.ofSeconds(3);
+
+    private final String name;
+    private final long waitTimeoutNanos;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    // 전체 호출 수 = 실제 실행 수 + 병합된 수 (대기 중 인터럽트된 호출 제외)
+    // executions : loader를 실행한 수 (leader + 기다리다 시간이 초과되어 직접 실행한 요청)
+    // collapsed : leader의 결과(또는 예외)를 받아서 loader 실행을 생략한 수
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    // 기다리다 시간이 초과되어 직접 실행한 수 (executions에도 포함)
+    private final LongAdder timeouts = new LongAdder();
+
+    // 현재 leader를 기다리고 있는 요청 수
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public SingleFlight(String name) {
+        this(name, DEFAULT_WAIT_TIMEOUT);
+    }
+
+    public SingleFlight(String name, Duration waitTimeout) {
+        this.name = name;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+
+        // 이미 진행 중인 조회가 있으면 그 결과를 기다림
+        if (existing != null) {
+            return await(existing, loader);
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private V await(CompletableFuture<V> call, Supplier<V> loader) {
+
+        V value = null;
+        boolean timedOut = false;
+        waiting.incrementAndGet();
+        try {
+            value = call.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timedOut = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("single-flight '" + name + "' 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            // leader의 예외를 그대로 전달 : 예외 타입(예 : EntityNotFoundException)과 HTTP 응답이 leader와 같음
+            collapsed.increment();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        if (timedOut) {
+            // leader가 멈춰 있어도 기다리던 요청이 함께 묶이지 않도록 직접 실행 : DB 조회를 생략하지 못했으므로 executions로 집계
+            timeouts.increment();
+            executions.increment();
+            return loader.get();
+        }
+
+        collapsed.increment();
+        return value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getCollapsed() {
+        return collapsed.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,50 @@
+-- 샤드마다 기동 시 실행되는 스키마 (board.shard.init-schema)
+-- MySQL과 H2(MODE=MySQL) 양쪽에서 실행 가능한 문법만 사용
+
+CREATE TABLE IF NOT EXISTS post (
+    post_id BIGINT NOT NULL,
+    title VARCHAR(255),
+    content VARCHAR(255),
+    author VARCHAR(255),
+    PRIMARY KEY (post_id),
+    INDEX idx_post_author (author, post_id)
+);
+
+CREATE TABLE IF NOT EXISTS post_tag (
+    post_id BIGINT NOT NULL,
+    tag VARCHAR(255) NOT NULL,
+    PRIMARY KEY (post_id, tag),
+    INDEX idx_post_tag_tag (tag, post_id)
+);
+
+CREATE TABLE IF NOT EXISTS author_post_count (
+    author VARCHAR(255) NOT NULL,
+    post_count BIGINT NOT NULL,
+    PRIMARY KEY (author)
+);
+
+CREATE TABLE IF NOT EXISTS tag_post_count (
+    tag VARCHAR(255) NOT NULL,
+    post_count BIGINT NOT NULL,
+    PRIMARY KEY (tag)
+);
+
+CREATE TABLE IF NOT EXISTS post_outbox (
+    outbox_id BIGINT NOT NULL,
+    post_id BIGINT,
+    change_type VARCHAR(20),
+    payload LONGTEXT,
+    occurred_at DATETIME(6),
+    published BOOLEAN NOT NULL,
+    published_at DATETIME(6),
+    feed_seq BIGINT,
+    PRIMARY KEY (outbox_id),
+    INDEX idx_post_outbox_published (published, outbox_id),
+    INDEX idx_post_outbox_feed_seq (feed_seq)
+);
+
+CREATE TABLE IF NOT EXISTS post_outbox_sequence (
+    sequence_id INT NOT NULL,
+    last_seq BIGINT NOT NULL,
+    PRIMARY KEY (sequence_id)
+);
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.ohgiraffers.board.domain.dto.*;
+import org.ohgiraffers.board.domain.entity.PostChangeType;
 import org.ohgiraffers.board.service.PostService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -13,10 +14,13 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -197,5 +201,50 @@ public class PostControllerTests {
                 .andDo(print());
     }
 
-}
 
+    @Test
+    @DisplayName("게시글 변경 피드 조회 기능 테스트")
+    void read_post_changes_test() throws Exception {
+        // given
+        List<PostChangeResponse> changes = new ArrayList<>();
+        changes.add(new PostChangeResponse(11L, 1L, PostChangeType.CREATED,
+                "{\"postId\":1,\"title\":\"테스트 제목\",\"content\":\"테스트 내용\"}", LocalDateTime.now()));
+        ReadPostChangesResponse response = new ReadPostChangesResponse(changes, "11.4");
+
+        given(postService.readPostChanges(eq("10.4"), anyInt())).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/changes").param("since", "10.4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].changeId").value(11L))
+                .andExpect(jsonPath("$.changes[0].changeType").value("CREATED"))
+                .andExpect(jsonPath("$.changes[0].payload.title").value("테스트 제목"))
+                .andExpect(jsonPath("$.nextSince").value("11.4"))
+                .andDo(print());
+    }
+
+
+    @Test
+    @DisplayName("태그별 게시글 목록 조회 기능 테스트")
+    void read_posts_by_tag_test() throws Exception {
+        // given
+        List<ReadPostResponse> posts = new ArrayList<>();
+        posts.add(new ReadPostResponse(20L, "테스트 제목", "테스트 내용", "writer", List.of("java")));
+        ReadPostSliceResponse response = new ReadPostSliceResponse(posts, 20L, 7L);
+
+        given(postService.readPostsByTag(eq("java"), eq(30L), eq(1))).willReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/posts/tags/{tag}", "java")
+                        .param("cursor", "30")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].postId").value(20L))
+                .andExpect(jsonPath("$.posts[0].author").value("writer"))
+                .andExpect(jsonPath("$.posts[0].tags[0]").value("java"))
+                .andExpect(jsonPath("$.nextCursor").value(20L))
+                .andExpect(jsonPath("$.totalCount").value(7L))
+                .andDo(print());
+    }
+
+}
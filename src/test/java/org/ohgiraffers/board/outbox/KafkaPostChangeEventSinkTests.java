@@ -0,0 +1,47 @@
+package org.ohgiraffers.board.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ohgiraffers.board.domain.entity.PostChangeType;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class KafkaPostChangeEventSinkTests {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+
+    @Test
+    @DisplayName("브로커 ack가 제한 시간 안에 오지 않으면 예외로 배치 실패 처리")
+    void publish_timeout_test() {
+        // given : 완료되지 않는 전송
+        given(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .willReturn(new CompletableFuture<SendResult<String, String>>());
+        KafkaPostChangeEventSink sink = new KafkaPostChangeEventSink(kafkaTemplate, objectMapper,
+                "board.post.changes", Duration.ofMillis(50));
+        PostChangeEvent event = new PostChangeEvent(1L, 1L, PostChangeType.CREATED, "{}", LocalDateTime.now());
+
+        // when & then
+        assertThatThrownBy(() -> sink.publish(List.of(event)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("50ms");
+    }
+}
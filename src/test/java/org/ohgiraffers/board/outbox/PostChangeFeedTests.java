@@ -0,0 +1,112 @@
+package org.ohgiraffers.board.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ohgiraffers.board.domain.dto.PostChangeResponse;
+import org.ohgiraffers.board.domain.dto.ReadPostChangesResponse;
+import org.ohgiraffers.board.domain.entity.PostChangeType;
+import org.ohgiraffers.board.domain.entity.PostOutbox;
+import org.ohgiraffers.board.repository.PostOutboxRepository;
+import org.ohgiraffers.board.repository.PostOutboxSequenceRepository;
+import org.ohgiraffers.board.service.PostService;
+import org.ohgiraffers.board.shard.ShardRouter;
+import org.ohgiraffers.board.shard.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 변경 피드 통합 테스트
+ *  local 프로필 : 내장 H2 DB 3개를 샤드로 사용, relay는 테스트에서 직접 실행
+ * */
+@SpringBootTest(properties = "board.outbox.relay.enabled=false")
+@ActiveProfiles("local")
+public class PostChangeFeedTests {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostOutboxRepository postOutboxRepository;
+
+    @Autowired
+    PostOutboxSequenceRepository postOutboxSequenceRepository;
+
+    @Autowired
+    ShardRouter shardRouter;
+
+    @Autowired
+    SnowflakeIdGenerator snowflakeIdGenerator;
+
+    private PostOutboxRelay relay;
+
+    @BeforeEach
+    void setup() {
+        relay = new PostOutboxRelay(postOutboxRepository, postOutboxSequenceRepository,
+                new InMemoryPostChangeEventSink(1000), shardRouter, 100);
+    }
+
+    private PostOutbox outbox(Long outboxId) {
+        return PostOutbox.builder()
+                .outboxId(outboxId)
+                .postId(outboxId)
+                .changeType(PostChangeType.CREATED)
+                .payload("{}")
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+
+    @Test
+    @DisplayName("먼저 발급된 outboxId가 늦게 커밋되어도 변경 피드에서 누락되지 않음")
+    void late_commit_is_not_skipped() throws Exception {
+        // given : 트랜잭션 A가 작은 outboxId를 발급받고 커밋 전에 대기
+        long earlierId = snowflakeIdGenerator.nextId();
+        long laterId = snowflakeIdGenerator.nextId();
+        String sinceBefore = postService.readPostChanges(null, 500).getNextSince();
+
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowTransaction = CompletableFuture.runAsync(() -> shardRouter.writeOnShard(0, () -> {
+            postOutboxRepository.saveAndFlush(outbox(earlierId));
+            inserted.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when : 큰 outboxId를 가진 트랜잭션 B가 먼저 커밋되고 발행됨
+        shardRouter.writeOnShard(0, () -> postOutboxRepository.save(outbox(laterId)));
+        relay.relayBatch(0);
+        ReadPostChangesResponse first = postService.readPostChanges(sinceBefore, 500);
+
+        // when : 트랜잭션 A가 나중에 커밋되고 발행됨
+        release.countDown();
+        slowTransaction.get(5, TimeUnit.SECONDS);
+        relay.relayBatch(0);
+        ReadPostChangesResponse second = postService.readPostChanges(first.getNextSince(), 500);
+
+        // then : 커서는 샤드별 feedSeq, A는 B의 커서 뒤에서 조회됨
+        assertThat(first.getNextSince().split("\\.")).hasSize(shardRouter.getShardCount());
+        assertThat(first.getChanges()).extracting(PostChangeResponse::getChangeId)
+                .contains(laterId)
+                .doesNotContain(earlierId);
+        assertThat(second.getChanges()).extracting(PostChangeResponse::getChangeId)
+                .contains(earlierId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
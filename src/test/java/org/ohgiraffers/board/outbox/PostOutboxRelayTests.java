@@ -0,0 +1,94 @@
+package org.ohgiraffers.board.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ohgiraffers.board.domain.entity.PostChangeType;
+import org.ohgiraffers.board.domain.entity.PostOutbox;
+import org.ohgiraffers.board.domain.entity.PostOutboxSequence;
+import org.ohgiraffers.board.repository.PostOutboxRepository;
+import org.ohgiraffers.board.repository.PostOutboxSequenceRepository;
+import org.ohgiraffers.board.shard.ShardRouter;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class PostOutboxRelayTests {
+
+    @Mock
+    private PostOutboxRepository postOutboxRepository;
+
+    @Mock
+    private PostOutboxSequenceRepository postOutboxSequenceRepository;
+
+    private InMemoryPostChangeEventSink sink;
+    private ShardRouter shardRouter;
+    private PostOutboxRelay relay;
+
+    @BeforeEach
+    void setup() {
+        sink = new InMemoryPostChangeEventSink(10);
+        shardRouter = new ShardRouter(1, TransactionOperations.withoutTransaction(),
+                TransactionOperations.withoutTransaction(), Runnable::run);
+        relay = new PostOutboxRelay(postOutboxRepository, postOutboxSequenceRepository, sink, shardRouter, 2);
+    }
+
+    private PostOutbox pending(Long outboxId) {
+        return new PostOutbox(outboxId, 1L, PostChangeType.UPDATED, "{}", LocalDateTime.now(), false, null, null);
+    }
+
+
+    @Test
+    @DisplayName("미발행 이벤트를 sink로 발행하고 published 처리, 발행 순서대로 feedSeq 부여")
+    void relay_batch_test() {
+        // given
+        given(postOutboxSequenceRepository.findWithLockBySequenceId(PostOutboxSequence.FEED))
+                .willReturn(Optional.of(new PostOutboxSequence(PostOutboxSequence.FEED, 5L)));
+        List<PostOutbox> batch = List.of(pending(1L), pending(2L));
+        given(postOutboxRepository.findByPublishedFalseOrderByOutboxIdAsc(any()))
+                .willReturn(batch)
+                .willReturn(List.of());
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(sink.getEvents()).extracting(PostChangeEvent::getOutboxId).containsExactly(1L, 2L);
+        assertThat(batch).allMatch(PostOutbox::isPublished);
+        assertThat(batch).extracting(PostOutbox::getFeedSeq).containsExactly(6L, 7L);
+    }
+
+
+    @Test
+    @DisplayName("sink 발행 실패 시 published 처리하지 않음")
+    void relay_batch_fail_test() {
+        // given
+        PostChangeEventSink failingSink = events -> {
+            throw new IllegalStateException("broker down");
+        };
+        relay = new PostOutboxRelay(postOutboxRepository, postOutboxSequenceRepository, failingSink, shardRouter, 2);
+        given(postOutboxSequenceRepository.findWithLockBySequenceId(PostOutboxSequence.FEED))
+                .willReturn(Optional.of(new PostOutboxSequence(PostOutboxSequence.FEED, 5L)));
+
+        List<PostOutbox> batch = List.of(pending(1L));
+        given(postOutboxRepository.findByPublishedFalseOrderByOutboxIdAsc(any())).willReturn(batch);
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(batch).noneMatch(PostOutbox::isPublished);
+        assertThat(batch).extracting(PostOutbox::getFeedSeq).containsOnlyNulls();
+    }
+
+}
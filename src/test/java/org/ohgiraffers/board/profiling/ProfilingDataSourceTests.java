@@ -0,0 +1,66 @@
+package org.ohgiraffers.board.profiling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProfilingDataSourceTests {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:profiling;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(new ProfilingDataSource(h2, new SqlLogger(false, 0.0, 1)));
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS item (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("DELETE FROM item");
+        jdbcTemplate.update("INSERT INTO item (id) VALUES (1), (2), (3)");
+    }
+
+    @AfterEach
+    void cleanup() {
+        RequestProfileHolder.set(null);
+    }
+
+
+    @Test
+    @DisplayName("요청 프로파일에 SQL 횟수, 시간, 읽은 row 수 기록")
+    void records_sql_and_rows() {
+        // given
+        RequestProfile profile = new RequestProfile();
+        RequestProfileHolder.set(profile);
+
+        // when
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM item ORDER BY id", Long.class);
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Long.class);
+
+        // then
+        assertThat(ids).containsExactly(1L, 2L, 3L);
+        assertThat(profile.getSqlCount()).isEqualTo(2L);
+        assertThat(profile.getRowsFetched()).isEqualTo(4L);
+        assertThat(profile.getSqlNanos()).isPositive();
+    }
+
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 SQL은 기록하지 않음")
+    void ignores_sql_outside_request() {
+        // given
+        RequestProfile profile = new RequestProfile();
+
+        // when
+        jdbcTemplate.queryForList("SELECT id FROM item", Long.class);
+
+        // then
+        assertThat(profile.getSqlCount()).isZero();
+        assertThat(profile.getRowsFetched()).isZero();
+    }
+}
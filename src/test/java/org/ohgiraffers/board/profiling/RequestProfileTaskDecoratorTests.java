@@ -0,0 +1,52 @@
+package org.ohgiraffers.board.profiling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ohgiraffers.board.shard.ShardRouter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class RequestProfileTaskDecoratorTests {
+
+    private static final int ALLOCATION = 4 * 1024 * 1024;
+
+    @AfterEach
+    void cleanup() {
+        RequestProfileHolder.set(null);
+    }
+
+
+    @Test
+    @DisplayName("scatter-gather 작업 스레드의 메모리 할당이 결과를 받은 시점에 이미 요청 프로파일에 반영됨")
+    void worker_allocation_is_recorded_before_completion() {
+        // given
+        assumeTrue(RequestProfile.currentThreadAllocatedBytes() >= 0, "스레드별 메모리 할당 측정을 지원하지 않는 JVM");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setTaskDecorator(new RequestProfileTaskDecorator());
+        executor.initialize();
+        ShardRouter shardRouter = new ShardRouter(2, TransactionOperations.withoutTransaction(),
+                TransactionOperations.withoutTransaction(), executor);
+
+        RequestProfile profile = new RequestProfile();
+        RequestProfileHolder.set(profile);
+
+        try {
+            // when : 샤드마다 작업 스레드에서 큰 배열 할당
+            List<byte[]> buffers = shardRouter.readAll(shard -> new byte[ALLOCATION]);
+
+            // then : 결과를 받자마자 읽어도 두 작업 스레드의 할당량이 포함됨
+            assertThat(buffers).hasSize(2);
+            assertThat(profile.getAllocatedBytes()).isGreaterThanOrEqualTo(2L * ALLOCATION);
+        } finally {
+            shardRouter.close();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.ohgiraffers.board.profiling;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestProfilingFilterTests {
+
+    @Test
+    @DisplayName("응답 본문을 쓰기 전에 Server-Timing 헤더 추가")
+    void adds_server_timing_before_body() throws Exception {
+        // given
+        RequestProfilingFilter filter = new RequestProfilingFilter(500);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // 핸들러 대신 SQL 2건을 기록하고 본문을 쓴 뒤 커밋
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                RequestProfileHolder.get().recordSql(2_000_000);
+                RequestProfileHolder.get().recordSql(1_000_000);
+                RequestProfileHolder.get().recordRow();
+                res.getWriter().write("{}");
+                res.flushBuffer();
+            }
+        });
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+        assertThat(response.getHeader("Server-Timing"))
+                .startsWith("db;dur=3.000;desc=\"2 queries, 1 rows\"")
+                .contains("app;dur=");
+        assertThat(RequestProfileHolder.get()).isNull();
+    }
+
+
+    @Test
+    @DisplayName("본문이 없는 응답에도 Server-Timing 헤더 추가")
+    void adds_server_timing_without_body() throws Exception {
+        // given
+        RequestProfilingFilter filter = new RequestProfilingFilter(500);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/v1/posts/1"), response, new MockFilterChain());
+
+        // then
+        assertThat(response.getHeader("Server-Timing")).startsWith("db;dur=0.000;desc=\"0 queries, 0 rows\"");
+    }
+}
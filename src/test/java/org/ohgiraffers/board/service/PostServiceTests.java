@@ -7,23 +7,42 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.ohgiraffers.board.domain.dto.*;
 import org.ohgiraffers.board.domain.entity.Post;
+import org.ohgiraffers.board.domain.entity.TagPostCount;
+import org.ohgiraffers.board.domain.entity.PostChangeType;
+import org.ohgiraffers.board.domain.entity.PostOutbox;
+import org.ohgiraffers.board.outbox.PostOutboxAppender;
+import org.ohgiraffers.board.repository.AuthorPostCountRepository;
+import org.ohgiraffers.board.repository.PostOutboxRepository;
 import org.ohgiraffers.board.repository.PostRepository;
+import org.ohgiraffers.board.repository.TagPostCountRepository;
+import org.ohgiraffers.board.shard.ShardRouter;
+import org.ohgiraffers.board.shard.SnowflakeIdGenerator;
+import org.ohgiraffers.board.support.SingleFlight;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.server.ResponseStatusException;
 
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Set;
 import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.when;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -36,6 +55,32 @@ public class PostServiceTests {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostOutboxAppender postOutboxAppender;
+
+    @Mock
+    private PostOutboxRepository postOutboxRepository;
+
+    @Mock
+    private AuthorPostCountRepository authorPostCountRepository;
+
+    @Mock
+    private TagPostCountRepository tagPostCountRepository;
+
+    /** @Spy
+     *  실제 객체를 감싼 객체, 스텁하지 않은 메소드는 실제 동작 수행
+     *  */
+    @Spy
+    private SingleFlight<Long, ReadPostResponse> postReadSingleFlight = new SingleFlight<>("post.read");
+
+    @Spy
+    private SnowflakeIdGenerator snowflakeIdGenerator = new SnowflakeIdGenerator(0);
+
+    // 샤드 1개, 트랜잭션 없이 호출 스레드에서 바로 실행
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(1, TransactionOperations.withoutTransaction(),
+            TransactionOperations.withoutTransaction(), Runnable::run);
+
     /** @InjectMocks
      *  Mock 객체가 주입될 클래스 지정
      *  */
@@ -73,6 +118,7 @@ public class PostServiceTests {
         assertThat(createPostResponse.getPostId()).isEqualTo(1L);
         assertThat(createPostResponse.getTitle()).isEqualTo("테스트 제목");
         assertThat(createPostResponse.getContent()).isEqualTo("테스트 내용");
+        then(postOutboxAppender).should().append(PostChangeType.CREATED, post);
     }
 
 
@@ -89,6 +135,7 @@ public class PostServiceTests {
         assertThat(readPostResponse.getPostId()).isEqualTo(savedPost.getPostId());
         assertThat(readPostResponse.getTitle()).isEqualTo(savedPost.getTitle());
         assertThat(readPostResponse.getPostId()).isEqualTo(savedPost.getPostId());
+        assertThat(postReadSingleFlight.getExecutions()).isEqualTo(1L);
     }
 
 
@@ -125,6 +172,32 @@ public class PostServiceTests {
     }
 
 
+    @Test
+    @DisplayName("게시글 전체 조회 기능 테스트: postId 외의 정렬은 400")
+    void read_all_post_test2() {
+        // given
+        Pageable pageable = PageRequest.of(0, 5, Sort.by("title"));
+
+        // when & then
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> postService.readAllPost(pageable));
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+
+    @Test
+    @DisplayName("게시글 전체 조회 기능 테스트: 조회 범위(offset + size)가 너무 크면 400")
+    void read_all_post_test3() {
+        // given : offset이 int 범위를 넘는 페이지
+        Pageable pageable = PageRequest.of(Integer.MAX_VALUE, 100);
+
+        // when & then
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> postService.readAllPost(pageable));
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+
     @Test
     @DisplayName("게시물 수정 기능 테스트")
     void update_post_test() {
@@ -138,6 +211,7 @@ public class PostServiceTests {
         assertThat(updatePostResponse.getPostId()).isEqualTo(1L);
         assertThat(updatePostResponse.getTitle()).isEqualTo("변경된 제목");
         assertThat(updatePostResponse.getContent()).isEqualTo("변경된 내용");
+        then(postOutboxAppender).should().append(PostChangeType.UPDATED, post);
     }
 
 
@@ -163,6 +237,7 @@ public class PostServiceTests {
 
         // then
         assertThat(response.getPostId()).isEqualTo(2L);
+        then(postOutboxAppender).should().append(PostChangeType.DELETED, savedPost);
     }
 
 
@@ -177,4 +252,130 @@ public class PostServiceTests {
     }
 
 
+    @Test
+    @DisplayName("게시물 변경 피드 조회 기능 테스트")
+    void read_post_changes_test() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<PostOutbox> outboxes = Arrays.asList(
+                new PostOutbox(21L, 1L, PostChangeType.CREATED, "{\"postId\":1}", now, true, now, 11L),
+                new PostOutbox(22L, 1L, PostChangeType.DELETED, "{\"postId\":1}", now, true, now, 12L)
+        );
+        given(postOutboxRepository.findByFeedSeqGreaterThanOrderByFeedSeqAsc(eq(10L), any())).willReturn(outboxes);
+
+        // when
+        ReadPostChangesResponse response = postService.readPostChanges("10", 100);
+
+        // then
+        assertThat(response.getChanges()).hasSize(2);
+        assertThat(response.getChanges().get(0).getChangeType()).isEqualTo(PostChangeType.CREATED);
+        assertThat(response.getChanges().get(1).getChangeType()).isEqualTo(PostChangeType.DELETED);
+        assertThat(response.getNextSince()).isEqualTo("12");
+    }
+
+
+    @Test
+    @DisplayName("게시물 변경 피드 조회 기능 테스트: 변경분이 없으면 since 유지")
+    void read_post_changes_test2() {
+        // given
+        given(postOutboxRepository.findByFeedSeqGreaterThanOrderByFeedSeqAsc(eq(12L), any())).willReturn(List.of());
+
+        // when
+        ReadPostChangesResponse response = postService.readPostChanges("12", 100);
+
+        // then
+        assertThat(response.getChanges()).isEmpty();
+        assertThat(response.getNextSince()).isEqualTo("12");
+    }
+
+
+    @Test
+    @DisplayName("게시물 변경 피드 조회 기능 테스트: 샤드 수와 맞지 않는 since는 400")
+    void read_post_changes_test3() {
+        // when & then
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> postService.readPostChanges("12.3", 100));
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+
+    @Test
+    @DisplayName("게시글 작성 시 작성자/태그 카운터 증가")
+    void create_post_counter_test() {
+        // given
+        CreatePostRequest request = new CreatePostRequest("태그 제목", "태그 내용", "writer", List.of(" Java ", "spring", ""));
+        given(postRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        CreatePostResponse response = postService.createPost(request);
+
+        // then : 태그는 공백 제거 후 소문자로 저장
+        assertThat(response.getAuthor()).isEqualTo("writer");
+        assertThat(response.getTags()).containsExactly("java", "spring");
+        then(authorPostCountRepository).should().increment("writer");
+        then(tagPostCountRepository).should().increment("java");
+        then(tagPostCountRepository).should().increment("spring");
+    }
+
+
+    @Test
+    @DisplayName("게시글 삭제 시 작성자/태그 카운터 감소")
+    void delete_post_counter_test() {
+        // given
+        Post taggedPost = Post.builder()
+                .postId(3L)
+                .title("태그 제목")
+                .content("태그 내용")
+                .author("writer")
+                .tags(Set.of("java"))
+                .build();
+        given(postRepository.findById(any())).willReturn(Optional.of(taggedPost));
+
+        // when
+        postService.deletePost(3L);
+
+        // then
+        then(authorPostCountRepository).should().decrement("writer");
+        then(tagPostCountRepository).should().decrement("java");
+    }
+
+
+    @Test
+    @DisplayName("태그별 게시글 목록 조회 기능 테스트 : keyset 페이징과 카운터")
+    void read_posts_by_tag_test() {
+        // given
+        Post newer = Post.builder().postId(20L).title("새 글").content("내용").tags(Set.of("java")).build();
+        Post older = Post.builder().postId(10L).title("옛 글").content("내용").tags(Set.of("java")).build();
+        given(postRepository.findByTagAndPostIdLessThan(eq("java"), eq(Long.MAX_VALUE), any()))
+                .willReturn(List.of(newer, older));
+        given(tagPostCountRepository.findById("java")).willReturn(Optional.of(new TagPostCount("java", 3L)));
+
+        // when : 태그는 소문자로 변환해서 조회
+        ReadPostSliceResponse response = postService.readPostsByTag("JAVA", null, 2);
+
+        // then
+        assertThat(response.getPosts()).extracting(ReadPostResponse::getPostId).containsExactly(20L, 10L);
+        assertThat(response.getNextCursor()).isEqualTo(10L);
+        assertThat(response.getTotalCount()).isEqualTo(3L);
+    }
+
+
+    @Test
+    @DisplayName("작성자별 게시글 목록 조회 기능 테스트 : 마지막 페이지면 nextCursor 없음")
+    void read_posts_by_author_test() {
+        // given
+        Post post = Post.builder().postId(5L).title("제목").content("내용").author("writer").build();
+        given(postRepository.findByAuthorAndPostIdLessThanOrderByPostIdDesc(eq("writer"), eq(10L), any()))
+                .willReturn(List.of(post));
+
+        // when
+        ReadPostSliceResponse response = postService.readPostsByAuthor("writer", 10L, 5);
+
+        // then
+        assertThat(response.getPosts()).hasSize(1);
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getTotalCount()).isZero();
+    }
+
+
 }
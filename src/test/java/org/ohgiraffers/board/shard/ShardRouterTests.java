@@ -0,0 +1,29 @@
+package org.ohgiraffers.board.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShardRouterTests {
+
+    @Test
+    @DisplayName("샤드가 하나면 readAll은 작업 스레드를 거치지 않고 현재 스레드에서 실행")
+    void single_shard_read_all_runs_inline() {
+        // given : 사용되면 실패하는 executor
+        ShardRouter shardRouter = new ShardRouter(1, TransactionOperations.withoutTransaction(),
+                TransactionOperations.withoutTransaction(), task -> {
+            throw new AssertionError("scatter executor가 사용됨");
+        });
+        Thread caller = Thread.currentThread();
+
+        // when
+        List<Boolean> onCaller = shardRouter.readAll(shard -> Thread.currentThread() == caller);
+
+        // then
+        assertThat(onCaller).containsExactly(true);
+    }
+}
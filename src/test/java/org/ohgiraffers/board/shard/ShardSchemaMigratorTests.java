@@ -0,0 +1,70 @@
+package org.ohgiraffers.board.shard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShardSchemaMigratorTests {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:migration;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // author 컬럼이 추가되기 전의 post 테이블
+        jdbcTemplate.execute("DROP TABLE IF EXISTS post");
+        jdbcTemplate.execute("CREATE TABLE post (post_id BIGINT NOT NULL, title VARCHAR(255), content VARCHAR(255), PRIMARY KEY (post_id))");
+        jdbcTemplate.update("INSERT INTO post (post_id, title, content) VALUES (1, '기존 제목', '기존 내용')");
+
+        // 변경 피드 순번 테이블 (schema-shard.sql이 생성)
+        jdbcTemplate.execute("DROP TABLE IF EXISTS post_outbox_sequence");
+        jdbcTemplate.execute("CREATE TABLE post_outbox_sequence (sequence_id INT NOT NULL, last_seq BIGINT NOT NULL, PRIMARY KEY (sequence_id))");
+    }
+
+    @Test
+    @DisplayName("기존 post 테이블에 author 컬럼과 작성자 인덱스 추가")
+    void migrate_existing_post_table() {
+        // when
+        int applied = new ShardSchemaMigrator().migrate(dataSource);
+
+        // then
+        assertThat(applied).isEqualTo(3);
+        jdbcTemplate.update("UPDATE post SET author = 'kim' WHERE post_id = 1");
+        assertThat(jdbcTemplate.queryForList("SELECT post_id FROM post WHERE author = 'kim' ORDER BY post_id DESC", Long.class))
+                .containsExactly(1L);
+    }
+
+
+    @Test
+    @DisplayName("변경 피드 순번 행이 없으면 0부터 시작하는 행 생성")
+    void migrate_outbox_sequence_row() {
+        // when
+        new ShardSchemaMigrator().migrate(dataSource);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT last_seq FROM post_outbox_sequence WHERE sequence_id = 1", Long.class))
+                .isZero();
+    }
+
+
+    @Test
+    @DisplayName("이미 적용된 마이그레이션은 다시 실행하지 않음")
+    void migrate_is_idempotent() {
+        // given
+        ShardSchemaMigrator migrator = new ShardSchemaMigrator();
+        migrator.migrate(dataSource);
+
+        // when
+        int applied = migrator.migrate(dataSource);
+
+        // then
+        assertThat(applied).isZero();
+    }
+}
@@ -0,0 +1,124 @@
+package org.ohgiraffers.board.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ohgiraffers.board.domain.dto.CreatePostRequest;
+import org.ohgiraffers.board.domain.dto.ReadPostResponse;
+import org.ohgiraffers.board.domain.dto.ReadPostSliceResponse;
+import org.ohgiraffers.board.repository.PostRepository;
+import org.ohgiraffers.board.service.PostService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 샤딩 통합 테스트
+ *  local 프로필 : 내장 H2 DB 3개를 샤드로 사용
+ * */
+@SpringBootTest(properties = "board.outbox.relay.enabled=false")
+@ActiveProfiles("local")
+public class ShardedPostServiceTests {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    ShardRouter shardRouter;
+
+
+    @Test
+    @DisplayName("게시글이 postId에 따라 여러 샤드에 나뉘어 저장되고 최신순으로 병합 조회")
+    void posts_are_spread_and_merged() {
+        // given
+        List<Long> shardCountsBefore = shardRouter.readAll(shard -> postRepository.count());
+
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            postIds.add(postService.createPost(new CreatePostRequest("제목" + i, "내용" + i)).getPostId());
+        }
+
+        // when
+        List<Long> shardCountsAfter = shardRouter.readAll(shard -> postRepository.count());
+        Page<ReadPostResponse> firstPage = postService.readAllPost(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "postId")));
+        Page<ReadPostResponse> secondPage = postService.readAllPost(PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "postId")));
+
+        // then : 모든 샤드에 저장됨
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            assertThat(shardCountsAfter.get(shard)).isGreaterThan(shardCountsBefore.get(shard));
+        }
+
+        // then : 샤드를 합친 결과가 최신순(postId 내림차순)
+        List<Long> newestFirst = postIds.stream().sorted(Comparator.reverseOrder()).toList();
+        assertThat(firstPage.getContent()).extracting(ReadPostResponse::getPostId).containsExactlyElementsOf(newestFirst.subList(0, 10));
+        assertThat(secondPage.getContent()).extracting(ReadPostResponse::getPostId).containsExactlyElementsOf(newestFirst.subList(10, 20));
+        assertThat(firstPage.getTotalElements()).isEqualTo(shardCountsAfter.stream().mapToLong(Long::longValue).sum());
+    }
+
+
+    @Test
+    @DisplayName("단건 조회/삭제는 postId의 샤드로 라우팅")
+    void read_and_delete_are_routed() {
+        // given
+        Long postId = postService.createPost(new CreatePostRequest("라우팅 제목", "라우팅 내용")).getPostId();
+        int shard = shardRouter.shardOf(postId);
+
+        // when
+        ReadPostResponse response = postService.readPostById(postId);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("라우팅 제목");
+        assertThat(shardRouter.readOnShard(shard, () -> postRepository.existsById(postId))).isTrue();
+
+        // when
+        postService.deletePost(postId);
+
+        // then
+        assertThat(shardRouter.readOnShard(shard, () -> postRepository.existsById(postId))).isFalse();
+    }
+
+
+    @Test
+    @DisplayName("작성자/태그별 목록은 샤드를 합쳐 keyset으로 조회하고 전체 수는 카운터에서 조회")
+    void filtered_listing_with_counters() {
+        // given : 테스트마다 겹치지 않는 작성자/태그
+        String author = "writer-" + UUID.randomUUID();
+        String tag = "tag-" + UUID.randomUUID();
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            postIds.add(postService.createPost(new CreatePostRequest("제목" + i, "내용" + i, author, List.of(tag))).getPostId());
+        }
+        postService.createPost(new CreatePostRequest("다른 글", "내용", "someone-else", List.of("other")));
+        List<Long> newestFirst = postIds.stream().sorted(Comparator.reverseOrder()).toList();
+
+        // when
+        ReadPostSliceResponse firstPage = postService.readPostsByAuthor(author, null, 5);
+        ReadPostSliceResponse secondPage = postService.readPostsByAuthor(author, firstPage.getNextCursor(), 5);
+
+        // then
+        assertThat(firstPage.getPosts()).extracting(ReadPostResponse::getPostId).containsExactlyElementsOf(newestFirst.subList(0, 5));
+        assertThat(secondPage.getPosts()).extracting(ReadPostResponse::getPostId).containsExactlyElementsOf(newestFirst.subList(5, 7));
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(firstPage.getTotalCount()).isEqualTo(7L);
+
+        // when : 삭제하면 카운터 감소
+        postService.deletePost(postIds.get(0));
+        ReadPostSliceResponse byTag = postService.readPostsByTag(tag, null, 10);
+
+        // then
+        assertThat(byTag.getPosts()).hasSize(6);
+        assertThat(byTag.getPosts()).allSatisfy(post -> assertThat(post.getTags()).containsExactly(tag));
+        assertThat(byTag.getTotalCount()).isEqualTo(6L);
+    }
+}
@@ -0,0 +1,59 @@
+package org.ohgiraffers.board.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SnowflakeIdGeneratorTests {
+
+    @Test
+    @DisplayName("같은 밀리초에 발급한 id도 고유하고 단조 증가")
+    void ids_are_unique_and_increasing() {
+        // given : 시계가 멈춰 있어도 순번으로 구분
+        Clock fixed = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, fixed);
+        Set<Long> ids = new HashSet<>();
+
+        // when & then : 한 밀리초 순번(4096)을 넘겨도 계속 증가
+        long previous = -1;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+        assertThat(ids).hasSize(10_000);
+    }
+
+
+    @Test
+    @DisplayName("workerId가 다르면 같은 시각에도 다른 id 발급")
+    void worker_id_is_encoded() {
+        // given
+        Clock fixed = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+        // when
+        long first = new SnowflakeIdGenerator(1, fixed).nextId();
+        long second = new SnowflakeIdGenerator(2, fixed).nextId();
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+        assertThat((first >> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID).isEqualTo(1L);
+        assertThat((second >> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID).isEqualTo(2L);
+    }
+
+
+    @Test
+    @DisplayName("범위를 벗어난 workerId는 예외 발생")
+    void invalid_worker_id() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+    }
+}
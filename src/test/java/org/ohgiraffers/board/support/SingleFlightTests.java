@@ -0,0 +1,162 @@
+package org.ohgiraffers.board.support;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SingleFlightTests {
+
+    @Test
+    @DisplayName("같은 key의 동시 요청은 한 번만 실행되고 결과를 공유")
+    void concurrent_calls_are_collapsed() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int waiters = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(waiters + 1);
+
+        try {
+            // when
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "post-1";
+            }));
+            leaderStarted.await();
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < waiters; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    return "unexpected";
+                })));
+            }
+
+            // 모든 follower가 진행 중인 조회에 합류할 때까지 대기
+            while (singleFlight.getWaiting() < waiters) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(singleFlight.getExecutions()).isEqualTo(1L);
+            assertThat(singleFlight.getCollapsed()).isEqualTo(waiters);
+            assertThat(singleFlight.getInFlight()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    @DisplayName("leader의 예외는 합류한 요청에도 그대로 전달")
+    void leader_exception_is_shared() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test");
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                leaderStarted.countDown();
+                await(release);
+                throw new EntityNotFoundException("없음");
+            }));
+            leaderStarted.await();
+
+            Future<String> follower = executor.submit(() -> singleFlight.execute(1L, () -> "unexpected"));
+            while (singleFlight.getWaiting() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // then
+            ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+            ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertThat(leaderError.getCause()).isInstanceOf(EntityNotFoundException.class);
+            assertThat(followerError.getCause()).isSameAs(leaderError.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    @DisplayName("leader가 제한 시간 안에 끝나지 않으면 합류한 요청은 직접 실행")
+    void waiter_falls_through_after_timeout() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "leader";
+            }));
+            leaderStarted.await();
+
+            // when
+            String result = singleFlight.execute(1L, () -> "direct");
+
+            // then : 직접 실행한 요청은 병합이 아닌 실행으로 집계
+            assertThat(result).isEqualTo("direct");
+            assertThat(singleFlight.getCollapsed()).isZero();
+            assertThat(singleFlight.getTimeouts()).isEqualTo(1L);
+            assertThat(singleFlight.getExecutions()).isEqualTo(2L);
+
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    @DisplayName("조회가 끝나면 다음 요청은 다시 실행 (결과를 캐싱하지 않음)")
+    void sequential_calls_are_not_cached() {
+        // given
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>("test");
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        singleFlight.execute(1L, loads::incrementAndGet);
+        singleFlight.execute(1L, loads::incrementAndGet);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(singleFlight.getCollapsed()).isZero();
+    }
+
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}